@@ -23,28 +23,133 @@
  */
 package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
 
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSource;
 import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
 import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
 import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
 import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMSource;
 import jenkins.scm.api.trait.SCMHeadFilter;
+import jenkins.scm.api.trait.SCMHeadPrefilter;
+import jenkins.scm.api.trait.SCMSourceContext;
 import jenkins.scm.api.trait.SCMSourceRequest;
+import jenkins.util.SystemProperties;
 import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.FilterMetrics;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent.ScanScoped;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexTimeoutException;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A {@link SCMHead} filter to exclusion the pull requests due to not match by user filter.
  *
+ * <p>The filter keeps no per-evaluation state and may evaluate heads from several threads at once. Subclasses must
+ * keep {@link #getData(BitbucketPullRequest)} and {@link #getMessage(BitbucketPullRequest)} free of side effects and
+ * hold any shared cache in lock-free structures.</p>
+ *
  * @param <T> data type to validation
  * @since 0.1.0
  */
 public abstract class AbstractPullRequestFilter<T> extends SCMHeadFilter {
 
+    private static final Logger LOGGER = Logger.getLogger(AbstractPullRequestFilter.class.getName());
+
+    /**
+     * The verdict for pull requests whose evaluation exceeded the pattern time budget.
+     */
+    private static final FallbackVerdict TIMEOUT_VERDICT = FallbackVerdict.parse(
+            SystemProperties.getString(AbstractPullRequestFilter.class.getName() + ".timeoutVerdict"), FallbackVerdict.EXCLUDE);
+
+    /**
+     * The time budget of a scan in milliseconds, {@code 0} disables the budget.
+     */
+    private static final long SCAN_BUDGET_MILLIS = SystemProperties.getLong(
+            AbstractPullRequestFilter.class.getName() + ".scanBudgetMillis", 0L);
+
+    /**
+     * Evaluates the listed pull requests when they carry the data of the filter, instead of fetching them.
+     */
+    private static final boolean USE_LISTED_DATA = !SystemProperties.getBoolean(
+            AbstractPullRequestFilter.class.getName() + ".alwaysFetch");
+
+    /**
+     * The verdict for pull requests left when the scan exceeded its time budget.
+     */
+    private static final FallbackVerdict DEADLINE_VERDICT = FallbackVerdict.parse(
+            SystemProperties.getString(AbstractPullRequestFilter.class.getName() + ".deadlineVerdict"), FallbackVerdict.CACHED);
+
+    /**
+     * The deadlines of the running scans in {@link System#nanoTime()}, shared by all the filters of a scan.
+     */
+    private static final ScanScoped<Long> SCAN_DEADLINES = new ScanScoped<>();
+
+    /**
+     * Reuses the verdicts of the previous scans for pull requests which did not change since.
+     */
+    private static final boolean REUSE_VERDICTS = !SystemProperties.getBoolean(
+            AbstractPullRequestFilter.class.getName() + ".disableVerdictReuse");
+
+    /**
+     * The last verdicts, to skip unchanged pull requests and for the {@link FallbackVerdict#CACHED} fallback.
+     */
+    private static final VerdictCache VERDICTS = new VerdictCache(SystemProperties.getInteger(
+            AbstractPullRequestFilter.class.getName() + ".verdictCacheSize", 50_000));
+
+    /**
+     * The patterns which already reported exceeding their time budget, to log each of them once.
+     */
+    private static final Set<String> REPORTED_TIMEOUTS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The background fetches of the running scans, shared by all the filters of a scan.
+     */
+    private static final ScanScoped<FetchPipeline> FETCH_PIPELINES = new ScanScoped<>();
+
+    /**
+     * The scopes of the filters which do not describe their configuration, released together with the filters.
+     */
+    private static final Map<Object, String> INSTANCE_SCOPES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final AtomicLong INSTANCES = new AtomicLong();
+
     private final TypeFilter<T> filter;
 
+    /**
+     * The filter part of the verdict keys, a digest of the class and the scope of the filter computed once; racing
+     * threads compute equal values.
+     */
+    private volatile String verdictKeyPrefix;
+
+    /**
+     * The indexes of the scans running with the filter.
+     */
+    private final ScanScoped<ScanIndex> scans = new ScanScoped<>();
+
+    /**
+     * The server and the credentials of the scanned source, told by the {@link SourcePrefilter}; {@code null} until
+     * then, the fetches of the filter are not shared with other scans.
+     */
+    private volatile String fetchScope;
+
     /**
      * Constructor.
      *
@@ -61,24 +166,326 @@ public abstract class AbstractPullRequestFilter<T> extends SCMHeadFilter {
     public boolean isExcluded(@Nonnull SCMSourceRequest request, @Nonnull SCMHead head) throws IOException, InterruptedException {
         if (request instanceof BitbucketSCMSourceRequest && head instanceof PullRequestSCMHead) {
             BitbucketSCMSourceRequest req = (BitbucketSCMSourceRequest) request;
-            for (BitbucketPullRequest pullRequest : req.getPullRequests()) {
-                if (pullRequest.getSource().getBranch().getName().equals(((PullRequestSCMHead) head).getBranchName())) {
-                    BitbucketPullRequest fullPullRequest = req.getPullRequestById(Integer.parseInt(pullRequest.getId()));
-                    boolean isExluded = !isAccepted(fullPullRequest);
-                    if (isExluded) {
-                        String message = getMessage(fullPullRequest);
-                        if (StringUtils.isNotBlank(message)) {
-                            req.listener().getLogger().format("  %s%n", message);
-                        }
+            ScanIndex index = getScanIndex(req);
+            BitbucketPullRequest pullRequest = index.get(((PullRequestSCMHead) head).getBranchName());
+            if (pullRequest != null) {
+                checkInterrupted();
+                Boolean batched = index.isExcluded(pullRequest);
+                if (batched != null) {
+                    if (batched) {
+                        logMessage(req, pullRequest);
+                    }
+                    return batched;
+                }
+
+                boolean fullPullRequestRequired = requiresFullPullRequest(pullRequest);
+                long fingerprint = REUSE_VERDICTS && isVerdictReused()
+                        ? PullRequestFingerprint.of(pullRequest, fullPullRequestRequired ? null : getData(pullRequest))
+                        : PullRequestFingerprint.NONE;
+                Boolean reused = VERDICTS.get(getVerdictKey(req, pullRequest), fingerprint);
+                if (reused != null) {
+                    FilterMetrics.recordReusedVerdict();
+                    if (reused) {
+                        String message = fullPullRequestRequired ? null : getMessage(pullRequest);
+                        req.listener().getLogger().format("  %s%n", StringUtils.isNotBlank(message)
+                                ? message : "The pull request did not change since it was skipped by the last scan. Skipped.");
+                    }
+                    return reused;
+                }
+
+                BitbucketPullRequest evaluatedPullRequest = pullRequest;
+                if (fullPullRequestRequired) {
+                    long deadline = getScanDeadline(req);
+                    if (isExpired(deadline)) {
+                        return isExcludedOnDeadline(req, pullRequest);
+                    }
+                    evaluatedPullRequest = getFetchPipeline(req).get(req, pullRequest, deadline);
+                    if (evaluatedPullRequest == null) {
+                        return isExcludedOnDeadline(req, pullRequest);
                     }
-                    return isExluded;
+                    checkInterrupted();
+                }
+
+                boolean isExluded;
+                try {
+                    isExluded = !isAccepted(req, evaluatedPullRequest);
+                } catch (RegexTimeoutException e) {
+                    return isExcludedOnTimeout(req, pullRequest, e);
+                }
+                rememberVerdict(req, pullRequest, fingerprint, isExluded);
+                if (isExluded) {
+                    logMessage(req, evaluatedPullRequest);
                 }
+                return isExluded;
             }
         }
 
         return false;
     }
 
+    private void logMessage(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest) {
+        String message = getMessage(pullRequest);
+        if (StringUtils.isNotBlank(message)) {
+            request.listener().getLogger().format("  %s%n", message);
+        }
+    }
+
+    /**
+     * Return the index of the scan, built by the first head the filter evaluates in the scan: the pull requests are
+     * indexed by their source branch, and those the filter can evaluate without fetching them are evaluated as one
+     * batch.
+     *
+     * @param request the request of the scan
+     * @return the index of the scan
+     * @throws IOException          if the pull requests cannot be listed
+     * @throws InterruptedException if the thread was interrupted
+     */
+    private ScanIndex getScanIndex(BitbucketSCMSourceRequest request) throws IOException, InterruptedException {
+        return scans.create(request, () -> {
+            Map<String, BitbucketPullRequest> bySourceBranch = new HashMap<>();
+            List<BitbucketPullRequest> batch = new ArrayList<>();
+            for (BitbucketPullRequest pullRequest : request.getPullRequests()) {
+                if (bySourceBranch.putIfAbsent(pullRequest.getSource().getBranch().getName(), pullRequest) == null
+                        && isEvaluatedInBatch() && !requiresFullPullRequest(pullRequest)) {
+                    batch.add(pullRequest);
+                }
+            }
+
+            ScanIndex index = new ScanIndex(bySourceBranch);
+            if (!batch.isEmpty()) {
+                try {
+                    boolean[] accepted = isAcceptedAll(batch);
+                    index.decide(batch, accepted);
+                    String summary = getSummary(batch, accepted);
+                    if (StringUtils.isNotBlank(summary)) {
+                        request.listener().getLogger().format("%s%n", summary);
+                    }
+                } catch (RegexTimeoutException e) {
+                    if (e.isInterrupted()) {
+                        Thread.interrupted();
+                        throw new InterruptedException(e.getMessage());
+                    }
+                    // left to the evaluation of each head, which decides about the slow pull request alone
+                }
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Return the background fetches of the scan, created by the first pull request any filter waits for in the scan.
+     *
+     * @param request the request of the scan
+     * @return the fetches of the scan
+     * @throws IOException          if the fetches cannot be created
+     * @throws InterruptedException if the thread was interrupted
+     */
+    private FetchPipeline getFetchPipeline(BitbucketSCMSourceRequest request) throws IOException, InterruptedException {
+        return FETCH_PIPELINES.create(request, () -> new FetchPipeline(fetchScope));
+    }
+
+    /**
+     * Return the deadline of the scan, started by the first pull request any filter evaluates in the scan.
+     *
+     * @param request the request of the scan
+     * @return the deadline in {@link System#nanoTime()}, {@code 0} if the scan has no time budget
+     */
+    private long getScanDeadline(BitbucketSCMSourceRequest request) {
+        long budgetMillis = getScanBudgetMillis();
+        if (budgetMillis <= 0) {
+            return 0;
+        }
+        return SCAN_DEADLINES.get(request, () -> System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+    }
+
+    private static boolean isExpired(long deadline) {
+        return deadline != 0 && System.nanoTime() - deadline > 0;
+    }
+
+    private static void checkInterrupted() throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException("The pull request filtering was interrupted");
+        }
+    }
+
+    /**
+     * Decides about a pull request left when the scan exceeded its time budget.
+     *
+     * @param request     the request of the scan
+     * @param pullRequest the pull request from the list
+     * @return {@code true} if the pull request should be excluded
+     */
+    private boolean isExcludedOnDeadline(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest) {
+        FilterMetrics.recordDeadlineFallback();
+        boolean isExcluded = isExcludedByFallback(getDeadlineVerdict(), request, pullRequest);
+        request.listener().getLogger().format("  The scan exceeded its time budget. %s%n", isExcluded ? "Skipped." : "Accepted.");
+        return isExcluded;
+    }
+
+    /**
+     * Decides about a pull request whose evaluation was aborted by the pattern time budget.
+     *
+     * @param request     the request of the scan
+     * @param pullRequest the pull request from the list
+     * @param e           the reason of the abort
+     * @return {@code true} if the pull request should be excluded
+     * @throws InterruptedException if the evaluation was aborted due to the thread interruption
+     */
+    private boolean isExcludedOnTimeout(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest, RegexTimeoutException e)
+            throws InterruptedException {
+        if (e.isInterrupted()) {
+            Thread.interrupted();
+            InterruptedException interrupted = new InterruptedException(e.getMessage());
+            interrupted.initCause(e);
+            throw interrupted;
+        }
+
+        FallbackVerdict verdict = getTimeoutVerdict();
+        FilterMetrics.recordRegexTimeout();
+        if (REPORTED_TIMEOUTS.add(e.getPattern())) {
+            LOGGER.log(Level.WARNING, "The pattern ''{0}'' exceeded its time budget, pull requests it cannot evaluate are handled as {1}",
+                    new Object[]{e.getPattern(), verdict});
+        }
+
+        boolean isExcluded = isExcludedByFallback(verdict, request, pullRequest);
+        request.listener().getLogger().format("  The pull request filter exceeded its time budget. %s%n", isExcluded ? "Skipped." : "Accepted.");
+        return isExcluded;
+    }
+
+    private boolean isExcludedByFallback(FallbackVerdict verdict, BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest) {
+        if (verdict == FallbackVerdict.CACHED) {
+            return Boolean.TRUE.equals(VERDICTS.get(getVerdictKey(request, pullRequest)));
+        }
+        return verdict == FallbackVerdict.EXCLUDE;
+    }
+
+    private void rememberVerdict(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest, long fingerprint, boolean isExcluded) {
+        if (!isVerdictReused()) {
+            return;
+        }
+        boolean deadlineFallback = getScanBudgetMillis() > 0 && getDeadlineVerdict() == FallbackVerdict.CACHED;
+        if (fingerprint != PullRequestFingerprint.NONE || deadlineFallback || getTimeoutVerdict() == FallbackVerdict.CACHED) {
+            VERDICTS.put(getVerdictKey(request, pullRequest), fingerprint, isExcluded);
+        }
+    }
+
+    /**
+     * Identifies the verdict by the filter type, its configuration and the pull request.
+     */
+    private String getVerdictKey(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest) {
+        String pullRequestKey = FetchPipeline.getKey(pullRequest);
+        if (pullRequestKey == null) {
+            pullRequestKey = request.getRepoOwner() + '/' + request.getRepository() + '#' + pullRequest.getId();
+        }
+        String prefix = verdictKeyPrefix;
+        if (prefix == null) {
+            prefix = digest(getClass().getName() + '\n' + getVerdictScope()) + '\n';
+            verdictKeyPrefix = prefix;
+        }
+        return prefix + pullRequestKey;
+    }
+
+    /**
+     * Registers the filter in the context, next to a prefilter telling it the source of the scan: the requests of the
+     * scans do not tell their server and credentials, which scope the fetches shared with other scans.
+     *
+     * @param context the context of the scan
+     * @param filter  the filter
+     * @since 0.3.0
+     */
+    public static void register(SCMSourceContext<?, ?> context, AbstractPullRequestFilter<?> filter) {
+        context.withPrefilter(filter.new SourcePrefilter());
+        context.withFilter(filter);
+    }
+
+    /**
+     * Describes the configuration the verdicts depend on, filters with equal descriptions share their verdicts. The
+     * description is only kept as a fixed-size digest, so it may be long.
+     *
+     * @return the description, by default the one of the filter
+     * @since 0.3.0
+     */
+    protected String getVerdictScope() {
+        return describe(getFilter());
+    }
+
+    /**
+     * Tells if the verdicts of the filter may be reused by the later scans, for unchanged pull requests and for the
+     * {@link FallbackVerdict#CACHED} fallback. Filters whose verdicts depend on something else than the pull request
+     * and the configuration, such as the current time, opt out.
+     *
+     * @return {@code true} unless overridden
+     * @since 0.3.0
+     */
+    protected boolean isVerdictReused() {
+        return true;
+    }
+
+    /**
+     * Describes a filter by its {@link Object#toString()}. A filter which does not describe its configuration is
+     * identified by its instance instead, whose verdicts are reused as long as the trait keeps the compiled filter:
+     * the identity hash code of the default description may collide.
+     */
+    private static String describe(TypeFilter<?> filter) {
+        if (filter == null) {
+            return "null";
+        }
+        try {
+            if (filter.getClass().getMethod("toString").getDeclaringClass() != Object.class) {
+                return filter.toString();
+            }
+        } catch (NoSuchMethodException e) {
+            // every class has a toString method
+        }
+        return INSTANCE_SCOPES.computeIfAbsent(filter, f -> f.getClass().getName() + '#' + INSTANCES.incrementAndGet());
+    }
+
+    /**
+     * Return a fixed-size digest of the description, so the verdict keys do not copy long phrase lists.
+     */
+    private static String digest(String description) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            StringBuilder digest = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                digest.append(Character.forDigit((hash[i] >> 4) & 0xf, 16)).append(Character.forDigit(hash[i] & 0xf, 16));
+            }
+            return digest.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Return the time budget of a scan, shared by all the filters of the scan.
+     *
+     * @return the budget in milliseconds, {@code 0} for no budget unless configured otherwise
+     * @since 0.3.0
+     */
+    protected long getScanBudgetMillis() {
+        return SCAN_BUDGET_MILLIS;
+    }
+
+    /**
+     * Return the verdict for pull requests left when the scan exceeded its time budget.
+     *
+     * @return the verdict, {@link FallbackVerdict#CACHED} unless configured otherwise
+     * @since 0.3.0
+     */
+    protected FallbackVerdict getDeadlineVerdict() {
+        return DEADLINE_VERDICT;
+    }
+
+    /**
+     * Return the verdict for pull requests whose evaluation exceeded the pattern time budget.
+     *
+     * @return the verdict, {@link FallbackVerdict#EXCLUDE} unless configured otherwise
+     * @since 0.3.0
+     */
+    protected FallbackVerdict getTimeoutVerdict() {
+        return TIMEOUT_VERDICT;
+    }
+
     /**
      * Validates the pull requests is accepted by the filter.
      *
@@ -94,6 +501,100 @@ public abstract class AbstractPullRequestFilter<T> extends SCMHeadFilter {
         return filter.accepted(data);
     }
 
+    /**
+     * Validates the pull requests is accepted by the filter, with access to the request of the scan for filters which
+     * look up more than the pull request itself.
+     *
+     * @param request     the request of the scan
+     * @param pullRequest the {@link BitbucketPullRequest}
+     * @return {@code true} if and only if the pull requests was verified positive by the filter
+     * @throws IOException          if the data of the filter cannot be looked up
+     * @throws InterruptedException if the thread was interrupted
+     * @since 0.3.0
+     */
+    protected boolean isAccepted(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest)
+            throws IOException, InterruptedException {
+        return isAccepted(pullRequest);
+    }
+
+    /**
+     * Tells if the filter evaluates the listed pull requests as one batch when a scan starts. Filters whose evaluation
+     * is expensive opt out, so they only evaluate the heads which the filters before them did not exclude.
+     *
+     * @return {@code true} unless overridden
+     * @since 0.3.0
+     */
+    protected boolean isEvaluatedInBatch() {
+        return true;
+    }
+
+    /**
+     * Tells if the filter evaluates the full pull request, or the listed pull request is enough. In scans triggered by
+     * a webhook the listed pull requests are the ones of the event payload, otherwise they come from the pull request
+     * list of the same scan, so their data is never older than the scan.
+     *
+     * <p>By default the full pull request is fetched only when the listed one lacks the data of the filter.</p>
+     *
+     * @param pullRequest the listed pull request
+     * @return {@code true} to fetch the full pull request before the evaluation
+     * @since 0.3.0
+     */
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return !USE_LISTED_DATA || getData(pullRequest) == null;
+    }
+
+    /**
+     * Validates a batch of pull requests, evaluating each of them with {@link #isAccepted(BitbucketPullRequest)}.
+     * Subclasses overriding this method to evaluate the batch at once must keep it consistent with
+     * {@link #isAccepted(BitbucketPullRequest)}.
+     *
+     * @param pullRequests the pull requests
+     * @return the verdicts, in the order of the pull requests
+     * @since 0.3.0
+     */
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        boolean[] accepted = new boolean[pullRequests.size()];
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = isAccepted(pullRequests.get(i));
+        }
+        return accepted;
+    }
+
+    /**
+     * Summarizes the verdicts of the batch evaluated when a scan starts, logged once per scan.
+     *
+     * @param pullRequests the pull requests of the batch
+     * @param accepted     the verdicts, in the order of the pull requests
+     * @return the summary, {@code null} for no summary which is the default
+     * @since 0.3.0
+     */
+    protected String getSummary(List<BitbucketPullRequest> pullRequests, boolean[] accepted) {
+        return null;
+    }
+
+    /**
+     * Validates a batch of pull requests with a single pass of the filter over their data, see
+     * {@link TypeFilter#acceptedAll(List)}.
+     *
+     * @param pullRequests the pull requests
+     * @return the verdicts, in the order of the pull requests
+     * @since 0.3.0
+     */
+    protected final boolean[] isAcceptedAllByFilter(List<BitbucketPullRequest> pullRequests) {
+        TypeFilter<T> filter = getFilter();
+        if (filter == null) {
+            boolean[] accepted = new boolean[pullRequests.size()];
+            Arrays.fill(accepted, true);
+            return accepted;
+        }
+
+        List<T> data = new ArrayList<>(pullRequests.size());
+        for (BitbucketPullRequest pullRequest : pullRequests) {
+            data.add(getData(pullRequest));
+        }
+        return filter.acceptedAll(data);
+    }
+
     /**
      * Return instance of a filter to validate the data.
      *
@@ -119,4 +620,20 @@ public abstract class AbstractPullRequestFilter<T> extends SCMHeadFilter {
      */
     protected abstract String getMessage(BitbucketPullRequest pullRequest);
 
+    /**
+     * Tells the filter the server and the credentials of the scanned source. The prefilters of a request are evaluated
+     * with its source before its filters, the prefilter never excludes a head.
+     */
+    private final class SourcePrefilter extends SCMHeadPrefilter {
+
+        @Override
+        public boolean isExcluded(@Nonnull SCMSource source, @Nonnull SCMHead head) {
+            if (fetchScope == null && source instanceof BitbucketSCMSource) {
+                BitbucketSCMSource bitbucketSource = (BitbucketSCMSource) source;
+                fetchScope = bitbucketSource.getServerUrl() + '\n' + bitbucketSource.getCredentialsId();
+            }
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMSource;
+import jenkins.scm.api.trait.SCMHeadPrefilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexTimeoutException;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import javax.annotation.Nonnull;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A {@link SCMHead} prefilter to exclude the pull requests by the data of the head itself, before the pull requests
+ * are listed or fetched.
+ *
+ * <p>Heads without the data, and heads whose evaluation exceeded the pattern time budget, are left to the
+ * {@link AbstractPullRequestFilter} registered next to the prefilter. The prefilters have no access to the scan log,
+ * so the reason a head was skipped is logged at {@link Level#FINE}.</p>
+ *
+ * @param <T> data type to validation
+ * @since 0.3.0
+ */
+public abstract class AbstractPullRequestPrefilter<T> extends SCMHeadPrefilter {
+
+    private static final Logger LOGGER = Logger.getLogger(AbstractPullRequestPrefilter.class.getName());
+
+    private final TypeFilter<T> filter;
+
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TypeFilter} to validate the data
+     */
+    protected AbstractPullRequestPrefilter(TypeFilter<T> filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isExcluded(@Nonnull SCMSource source, @Nonnull SCMHead head) {
+        if (head instanceof PullRequestSCMHead) {
+            T data = getData((PullRequestSCMHead) head);
+            if (data != null) {
+                boolean isExcluded;
+                try {
+                    isExcluded = !isAccepted(data);
+                } catch (RegexTimeoutException e) {
+                    LOGGER.log(Level.FINE, "{0}: the prefilter exceeded its time budget, the head is left to the filter",
+                            head.getName());
+                    return false;
+                }
+                if (isExcluded) {
+                    LOGGER.log(Level.FINE, "{0}: {1}", new Object[]{head.getName(), getMessage(data)});
+                }
+                return isExcluded;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Validates the data is accepted by the filter.
+     *
+     * @param data the data of the head
+     * @return {@code true} if and only if the data was verified positive by the filter
+     */
+    protected boolean isAccepted(T data) {
+        TypeFilter<T> filter = getFilter();
+        if (filter == null) {
+            return true;
+        }
+        return filter.accepted(data);
+    }
+
+    /**
+     * Return instance of a filter to validate the data.
+     *
+     * @return {@link TypeFilter} to validate the data
+     */
+    protected TypeFilter<T> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Extracts data from the head to validate.
+     *
+     * @param head the {@link PullRequestSCMHead}
+     * @return extracted data to validation, {@code null} if the head does not carry it
+     */
+    protected abstract T getData(PullRequestSCMHead head);
+
+    /**
+     * Return message about the reason the head was skipped.
+     *
+     * @param data the data of the head
+     * @return the message
+     */
+    protected String getMessage(T data) {
+        return "The pull request is not accepted by " + getClass().getSimpleName() + ". Skipped.";
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The verdict for a pull request the filter could not evaluate.
+ *
+ * @since 0.3.0
+ */
+public enum FallbackVerdict {
+
+    /**
+     * Keep the pull request.
+     */
+    ACCEPT,
+
+    /**
+     * Skip the pull request.
+     */
+    EXCLUDE,
+
+    /**
+     * Repeat the last verdict of the same filter for the pull request, keep the pull request when it was never
+     * evaluated.
+     */
+    CACHED;
+
+    private static final Logger LOGGER = Logger.getLogger(FallbackVerdict.class.getName());
+
+    /**
+     * Parses the verdict from a configuration value.
+     *
+     * @param value        the configured value, case insensitive
+     * @param defaultValue the verdict when the value is missing or unknown
+     * @return the parsed verdict
+     */
+    public static FallbackVerdict parse(String value, FallbackVerdict defaultValue) {
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.WARNING, "Unknown fallback verdict ''{0}'', using {1}", new Object[]{value, defaultValue});
+            return defaultValue;
+        }
+    }
+
+}
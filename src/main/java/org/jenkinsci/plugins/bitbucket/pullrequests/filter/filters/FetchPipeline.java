@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.FilterMetrics;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent.FetchExecutor;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent.SingleFlight;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fetches the full pull requests of a scan in the background.
+ *
+ * <p>A pull request is fetched when a filter first waits for it, that is once its head passed the prefilters and the
+ * filters before, so the heads excluded on their listed data cost no request. The fetches run on the
+ * {@link FetchExecutor} and can be waited for with a deadline. The pipeline is shared by all the filters of the scan,
+ * so each pull request is fetched once per scan, and fetches of the same pull request by concurrent scans of the same
+ * server with the same credentials are coalesced. The pipeline does not keep the request, it is held by the scan until
+ * the request is released.</p>
+ */
+final class FetchPipeline {
+
+    /**
+     * The pull request fetches in flight, shared by all the jobs indexing the same repository from the same server with
+     * the same credentials at the same time.
+     */
+    private static final SingleFlight<String, BitbucketPullRequest> PULL_REQUEST_FETCHES = new SingleFlight<>();
+
+    private final Map<String, Future<BitbucketPullRequest>> fetches = new ConcurrentHashMap<>();
+
+    /**
+     * The server and the credentials of the scan, {@code null} if unknown.
+     */
+    private final String scope;
+
+    /**
+     * Tells if the executor of the fetches was logged to the scan.
+     */
+    private final AtomicBoolean logged = new AtomicBoolean();
+
+    /**
+     * Constructor.
+     *
+     * @param scope the server and the credentials of the scan, {@code null} if unknown: the fetches are then not shared
+     *              with other scans
+     */
+    FetchPipeline(String scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * Waits for the full pull request.
+     *
+     * @param request     the request of the scan
+     * @param pullRequest the pull request from the list
+     * @param deadline    the deadline in {@link System#nanoTime()}, {@code 0} to wait without limit
+     * @return the full pull request, {@code null} if the deadline passed first
+     * @throws IOException          if the fetch failed
+     * @throws InterruptedException if the thread was interrupted, the fetches of the scan are then cancelled
+     */
+    BitbucketPullRequest get(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest, long deadline)
+            throws IOException, InterruptedException {
+        Future<BitbucketPullRequest> fetch = fetches.computeIfAbsent(pullRequest.getId(), id -> submit(request, pullRequest, scope));
+        if (logged.compareAndSet(false, true)) {
+            request.listener().getLogger().format("  Fetching the pull requests for the filters with %s%n",
+                    FetchExecutor.get().getDescription());
+        }
+        try {
+            if (deadline == 0) {
+                return fetch.get();
+            }
+            return fetch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            cancel();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Failed to fetch the pull request " + pullRequest.getId(), cause);
+        }
+    }
+
+    /**
+     * Cancels the fetches not completed yet.
+     */
+    void cancel() {
+        fetches.values().forEach(fetch -> fetch.cancel(true));
+    }
+
+    private static Future<BitbucketPullRequest> submit(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest,
+                                                       String scope) {
+        return FetchExecutor.get().submit(() -> fetch(request, pullRequest, scope));
+    }
+
+    /**
+     * Fetches the full pull request, joining the fetch of the same pull request already in flight for another scan of
+     * the same server with the same credentials.
+     */
+    private static BitbucketPullRequest fetch(BitbucketSCMSourceRequest request, BitbucketPullRequest pullRequest, String scope)
+            throws IOException, InterruptedException {
+        String key = getKey(pullRequest);
+        if (key == null || scope == null) {
+            return request.getPullRequestById(Integer.parseInt(pullRequest.getId()));
+        }
+
+        boolean[] fetched = new boolean[1];
+        BitbucketPullRequest fullPullRequest = PULL_REQUEST_FETCHES.execute(scope + '\n' + key, () -> {
+            fetched[0] = true;
+            return request.getPullRequestById(Integer.parseInt(pullRequest.getId()));
+        });
+        if (!fetched[0]) {
+            FilterMetrics.recordCoalescedFetch();
+        }
+        return fullPullRequest;
+    }
+
+    /**
+     * Identifies the pull request across servers and repositories by its link, which contains the server, the
+     * repository and the id.
+     *
+     * @return the key, or {@code null} if the pull request cannot be identified and must not be shared
+     */
+    static String getKey(BitbucketPullRequest pullRequest) {
+        String link = pullRequest.getLink();
+        return StringUtils.isNotBlank(link) ? link : null;
+    }
+
+}
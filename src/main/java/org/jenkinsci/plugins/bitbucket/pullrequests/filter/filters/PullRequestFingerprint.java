@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketBranch;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketCommit;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestDestination;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestSource;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.PullRequestProperties;
+
+/**
+ * The content fingerprint of a listed pull request, telling if it changed since a previous scan.
+ *
+ * <p>The fingerprint covers the title, the branches, the source commit and the last update time of the pull request,
+ * plus the data the filter evaluates when the listed pull request carries it.</p>
+ */
+final class PullRequestFingerprint {
+
+    /**
+     * No fingerprint: the changes of the pull request cannot be detected.
+     */
+    static final long NONE = 0;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private PullRequestFingerprint() {
+    }
+
+    /**
+     * Computes the fingerprint.
+     *
+     * @param pullRequest the listed pull request
+     * @param data        the data the filter evaluates, {@code null} if the filter needs the full pull request
+     * @return the fingerprint, {@link #NONE} if the filter needs the full pull request and the listed one has no update
+     *         time, so the changes of the full pull request cannot be detected
+     */
+    static long of(BitbucketPullRequest pullRequest, Object data) {
+        Object updated = PullRequestProperties.get(pullRequest, "getUpdatedOn", "getUpdatedDate");
+        if (data == null && updated == null) {
+            return NONE;
+        }
+
+        BitbucketPullRequestSource source = pullRequest.getSource();
+        BitbucketPullRequestDestination destination = pullRequest.getDestination();
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, pullRequest.getId());
+        hash = mix(hash, pullRequest.getTitle());
+        hash = mix(hash, source != null ? name(source.getBranch()) : null);
+        hash = mix(hash, source != null ? hash(source.getCommit()) : null);
+        hash = mix(hash, destination != null ? name(destination.getBranch()) : null);
+        hash = mix(hash, updated);
+        hash = mix(hash, data);
+        return hash != NONE ? hash : 1;
+    }
+
+    private static String name(BitbucketBranch branch) {
+        return branch != null ? branch.getName() : null;
+    }
+
+    private static String hash(BitbucketCommit commit) {
+        return commit != null ? commit.getHash() : null;
+    }
+
+    /**
+     * Mixes the value into the FNV-1a hash of its characters, followed by a separator outside of the character range so
+     * adjacent values cannot shift into each other. Character sequences, such as long descriptions, are read in place
+     * rather than copied.
+     */
+    private static long mix(long hash, Object value) {
+        if (value != null) {
+            CharSequence chars = value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+            for (int i = 0, length = chars.length(); i < length; i++) {
+                hash ^= chars.charAt(i);
+                hash *= FNV_PRIME;
+            }
+        }
+        hash ^= 0x10000;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The pull requests of a scan indexed by their source branch, with the verdicts a filter decided for the whole list
+ * at once. Read only once built, so it can be shared by the threads evaluating the heads of the scan.
+ */
+final class ScanIndex {
+
+    private final Map<String, BitbucketPullRequest> bySourceBranch;
+    private final BitSet decided = new BitSet();
+    private final BitSet excluded = new BitSet();
+
+    /**
+     * Constructor.
+     *
+     * @param bySourceBranch the first listed pull request of each source branch
+     */
+    ScanIndex(Map<String, BitbucketPullRequest> bySourceBranch) {
+        this.bySourceBranch = bySourceBranch;
+    }
+
+    /**
+     * Records the verdicts of a batch.
+     *
+     * @param pullRequests the pull requests of the batch
+     * @param accepted     the verdicts of the filter, in the order of the pull requests
+     */
+    void decide(List<BitbucketPullRequest> pullRequests, boolean[] accepted) {
+        for (int i = 0; i < accepted.length; i++) {
+            int id = parseId(pullRequests.get(i));
+            if (id >= 0) {
+                decided.set(id);
+                excluded.set(id, !accepted[i]);
+            }
+        }
+    }
+
+    /**
+     * Return the pull request of the source branch.
+     *
+     * @param branchName the source branch name
+     * @return the first listed pull request of the branch, {@code null} if there is none
+     */
+    BitbucketPullRequest get(String branchName) {
+        return bySourceBranch.get(branchName);
+    }
+
+    /**
+     * Return the verdict decided for the whole list.
+     *
+     * @param pullRequest the listed pull request
+     * @return {@code true} if the pull request is excluded, {@code null} if it was not decided with the list
+     */
+    Boolean isExcluded(BitbucketPullRequest pullRequest) {
+        int id = parseId(pullRequest);
+        if (id < 0 || !decided.get(id)) {
+            return null;
+        }
+        return excluded.get(id);
+    }
+
+    private static int parseId(BitbucketPullRequest pullRequest) {
+        try {
+            return Integer.parseInt(pullRequest.getId());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The last verdicts of the filters, with the fingerprints of the pull requests they were given for. They let a later
+ * scan skip pull requests which did not change, and decide about pull requests which cannot be evaluated.
+ *
+ * <p>The cache is bounded: it is cleared once it exceeds its capacity, which only costs one more evaluation of the pull
+ * requests evaluated before.</p>
+ */
+final class VerdictCache {
+
+    private final Map<String, Verdict> verdicts = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    VerdictCache(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Return the last verdict, whatever the pull request was at the time.
+     *
+     * @param key the key of the filter and the pull request
+     * @return {@code true} if the pull request was excluded, {@code null} if it was not evaluated
+     */
+    Boolean get(String key) {
+        Verdict verdict = verdicts.get(key);
+        return verdict != null ? verdict.excluded : null;
+    }
+
+    /**
+     * Return the last verdict, if the pull request did not change since.
+     *
+     * @param key         the key of the filter and the pull request
+     * @param fingerprint the current fingerprint of the pull request
+     * @return {@code true} if the pull request was excluded, {@code null} if it was not evaluated or changed
+     */
+    Boolean get(String key, long fingerprint) {
+        Verdict verdict = verdicts.get(key);
+        if (verdict == null || fingerprint == PullRequestFingerprint.NONE || verdict.fingerprint != fingerprint) {
+            return null;
+        }
+        return verdict.excluded;
+    }
+
+    void put(String key, long fingerprint, boolean excluded) {
+        if (verdicts.size() >= capacity && !verdicts.containsKey(key)) {
+            verdicts.clear();
+        }
+        verdicts.put(key, new Verdict(fingerprint, excluded));
+    }
+
+    private static final class Verdict {
+
+        private final long fingerprint;
+        private final boolean excluded;
+
+        private Verdict(long fingerprint, boolean excluded) {
+            this.fingerprint = fingerprint;
+            this.excluded = excluded;
+        }
+
+    }
+
+}
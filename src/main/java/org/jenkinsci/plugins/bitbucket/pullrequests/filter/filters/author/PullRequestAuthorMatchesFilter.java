@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.author;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.PullRequestProperties;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link SCMHead} filter to only include pull requests whose author, or optionally one of the reviewers, belongs to
+ * a set of identities. The login, the account identifier and the e-mail of each user are looked up.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestAuthorMatchesFilter extends AbstractPullRequestFilter<String> {
+
+    private static final String[] USER_GETTERS = {"getUser", "getAuthor"};
+
+    private static final String[] IDENTITY_GETTERS = {"getLogin", "getUsername", "getName", "getSlug", "getIdentifier",
+            "getAccountId", "getUuid", "getEmailAddress", "getEmail"};
+
+    private final IdentitySetFilter identities;
+    private final boolean includeReviewers;
+
+    /**
+     * Constructor.
+     *
+     * @param filter           {@link IdentitySetFilter} to look up the identities
+     * @param includeReviewers {@code true} to look up the reviewers as well as the author
+     */
+    public PullRequestAuthorMatchesFilter(IdentitySetFilter filter, boolean includeReviewers) {
+        super(filter);
+        this.identities = filter;
+        this.includeReviewers = includeReviewers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getData(BitbucketPullRequest pullRequest) {
+        String login = pullRequest.getAuthorLogin();
+        return login != null ? login : pullRequest.getAuthorIdentifier();
+    }
+
+    /**
+     * Fetches the full pull request when the listed one lacks the author, or the reviewers when they are looked up.
+     */
+    @Override
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return super.requiresFullPullRequest(pullRequest)
+                || (includeReviewers && PullRequestProperties.get(pullRequest, "getReviewers") == null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+        if (identities == null || !identities.canFilter()) {
+            return true;
+        }
+
+        if (identities.acceptedAny(Arrays.asList(pullRequest.getAuthorLogin(), pullRequest.getAuthorIdentifier(),
+                pullRequest.getAuthorEmail()))) {
+            return true;
+        }
+        return includeReviewers && identities.acceptedAny(getReviewerIdentities(pullRequest));
+    }
+
+    /**
+     * Collects the identities of the reviewers, which only some implementations of the pull requests provide.
+     *
+     * @param pullRequest the {@link BitbucketPullRequest}
+     * @return the identities, empty if the pull request has no reviewers
+     */
+    protected static List<String> getReviewerIdentities(BitbucketPullRequest pullRequest) {
+        List<String> identities = new ArrayList<>();
+        Object reviewers = PullRequestProperties.get(pullRequest, "getReviewers");
+        if (reviewers instanceof Iterable) {
+            for (Object reviewer : (Iterable<?>) reviewers) {
+                addIdentities(identities, reviewer);
+                addIdentities(identities, PullRequestProperties.get(reviewer, USER_GETTERS));
+            }
+        }
+        return identities;
+    }
+
+    private static void addIdentities(List<String> identities, Object user) {
+        if (user == null) {
+            return;
+        }
+        for (String getter : IDENTITY_GETTERS) {
+            Object identity = PullRequestProperties.get(user, getter);
+            if (identity instanceof String) {
+                identities.add((String) identity);
+            }
+        }
+    }
+
+    /**
+     * The verdicts also depend on whether the reviewers are looked up.
+     */
+    @Override
+    protected String getVerdictScope() {
+        return super.getVerdictScope() + (includeReviewers ? " with reviewers" : "");
+    }
+
+    public boolean isIncludeReviewers() {
+        return includeReviewers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return "The pull request author is not one of the accepted users. Skipped.";
+    }
+
+}
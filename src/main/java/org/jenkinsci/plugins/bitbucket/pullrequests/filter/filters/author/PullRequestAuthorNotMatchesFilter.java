@@ -0,0 +1,68 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.author;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+
+/**
+ * A {@link SCMHead} filter to exclude pull requests whose author, or optionally one of the reviewers, belongs to a set
+ * of identities, such as bot accounts.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestAuthorNotMatchesFilter extends PullRequestAuthorMatchesFilter {
+
+    /**
+     * Constructor.
+     *
+     * @param filter           {@link IdentitySetFilter} to look up the identities
+     * @param includeReviewers {@code true} to look up the reviewers as well as the author
+     */
+    public PullRequestAuthorNotMatchesFilter(IdentitySetFilter filter, boolean includeReviewers) {
+        super(filter, includeReviewers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+        if (this.getFilter() == null || !this.getFilter().canFilter()) {
+            return true;
+        }
+
+        return !super.isAccepted(pullRequest);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return "The pull request author is one of the ignored users. Skipped.";
+    }
+
+}
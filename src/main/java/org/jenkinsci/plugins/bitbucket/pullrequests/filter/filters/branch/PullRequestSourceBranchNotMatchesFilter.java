@@ -26,6 +26,9 @@ package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch;
 import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
 import jenkins.scm.api.SCMHead;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.List;
 
 /**
  * A {@link SCMHead} filter to exclude pull request that originate from specific branches.
@@ -41,6 +44,16 @@ public class PullRequestSourceBranchNotMatchesFilter extends PullRequestSourceBr
 	public PullRequestSourceBranchNotMatchesFilter(StringFilter filter) {
 		super(filter);
 	}
+
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TypeFilter} to validate the source branch name
+     * @since 0.3.0
+     */
+	public PullRequestSourceBranchNotMatchesFilter(TypeFilter<String> filter) {
+		super(filter);
+	}
 	
     /**
      * {@inheritDoc}
@@ -54,6 +67,22 @@ public class PullRequestSourceBranchNotMatchesFilter extends PullRequestSourceBr
         return !super.isAccepted(pullRequest);
 	}
 
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+		boolean[] accepted = super.isAcceptedAll(pullRequests);
+		if (!this.getFilter().canFilter()) {
+			return accepted;
+		}
+
+		for (int i = 0; i < accepted.length; i++) {
+			accepted[i] = !accepted[i];
+		}
+		return accepted;
+	}
+
     /**
      * {@inheritDoc}
      */
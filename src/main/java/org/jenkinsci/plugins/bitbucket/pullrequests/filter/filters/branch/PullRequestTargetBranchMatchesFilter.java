@@ -27,6 +27,9 @@ import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
 import jenkins.scm.api.SCMHead;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.List;
 
 /**
  * A {@link SCMHead} filter to only include pull request that target specific branches.
@@ -43,6 +46,16 @@ public class PullRequestTargetBranchMatchesFilter extends AbstractPullRequestFil
 		super(filter);
 	}
 
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TypeFilter} to validate the target branch name
+     * @since 0.3.0
+     */
+	public PullRequestTargetBranchMatchesFilter(TypeFilter<String> filter) {
+		super(filter);
+	}
+
     /**
      * {@inheritDoc}
      */
@@ -51,6 +64,22 @@ public class PullRequestTargetBranchMatchesFilter extends AbstractPullRequestFil
 		return pullRequest.getDestination().getBranch().getName();
 	}
 
+    /**
+     * The branch names are part of the pull request list.
+     */
+	@Override
+	protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+		return false;
+	}
+
+    /**
+     * Evaluates the batch with a single pass of the filter.
+     */
+	@Override
+	protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+		return isAcceptedAllByFilter(pullRequests);
+	}
+
     /**
      * {@inheritDoc}
      */
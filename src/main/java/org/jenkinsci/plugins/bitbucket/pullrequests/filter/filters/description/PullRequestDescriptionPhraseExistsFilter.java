@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.description;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.PullRequestProperties;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TextSearchFilter;
+
+import java.util.List;
+
+/**
+ * A {@link SCMHead} filter to exclusion the pull requests due to not contain any phrase in the description.
+ *
+ * <p>The description is read from the pull request implementations which provide it. The Bitbucket Cloud API leaves
+ * the description out of the listed pull requests, so they are fetched in full when the listed one has none. The
+ * Bitbucket Server API lists the description and omits it only when it is empty, so a missing description is
+ * searched as an empty one.</p>
+ *
+ * @since 0.3.0
+ */
+public class PullRequestDescriptionPhraseExistsFilter extends AbstractPullRequestFilter<String> {
+
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TextSearchFilter} to search the description
+     */
+    public PullRequestDescriptionPhraseExistsFilter(TextSearchFilter filter) {
+        super(filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getData(BitbucketPullRequest pullRequest) {
+        Object description = PullRequestProperties.get(pullRequest, "getDescription");
+        if (description instanceof String) {
+            return (String) description;
+        }
+        return PullRequestProperties.isCloud(pullRequest) ? null : "";
+    }
+
+    /**
+     * Evaluates the batch with a single pass of the filter.
+     */
+    @Override
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        return isAcceptedAllByFilter(pullRequests);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return "The pull request description not contains any of required phrases or match the pattern. Skipped.";
+    }
+
+}
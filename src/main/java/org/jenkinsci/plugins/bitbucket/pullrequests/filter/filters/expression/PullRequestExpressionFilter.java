@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.expression;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestExpression;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestFields;
+
+/**
+ * A {@link SCMHead} filter to exclusion the pull requests not accepted by an expression.
+ *
+ * <p>The listed pull request is evaluated first, the full pull request is fetched only when the verdict depends on a
+ * field the listed one does not carry.</p>
+ *
+ * @since 0.3.0
+ */
+public class PullRequestExpressionFilter extends AbstractPullRequestFilter<PullRequestFields> {
+
+    private final PullRequestExpression expression;
+
+    /**
+     * Constructor.
+     *
+     * @param expression the expression accepting the pull requests
+     */
+    public PullRequestExpressionFilter(PullRequestExpression expression) {
+        super(expression);
+        this.expression = expression;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected PullRequestFields getData(BitbucketPullRequest pullRequest) {
+        return PullRequestFields.of(pullRequest);
+    }
+
+    /**
+     * Fetches the full pull request only when the listed one cannot decide the verdict.
+     */
+    @Override
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return super.requiresFullPullRequest(pullRequest)
+                || (expression != null && !expression.isDecidable(getData(pullRequest)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return "The pull request is not accepted by the filter expression. Skipped.";
+    }
+
+}
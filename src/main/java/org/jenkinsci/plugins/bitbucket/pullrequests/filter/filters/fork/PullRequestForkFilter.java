@@ -0,0 +1,136 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.fork;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestDestination;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestSource;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketRepository;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+
+/**
+ * A {@link SCMHead} filter to include or exclude the pull requests whose source repository is a fork, compared by the
+ * full names of the source and destination repositories of the listed pull request, so no pull request is fetched.
+ * Pull requests whose repositories are not listed are included.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestForkFilter extends AbstractPullRequestFilter<String> {
+
+    private final boolean acceptForks;
+    private final IdentitySetFilter owners;
+
+    /**
+     * Constructor.
+     *
+     * @param acceptForks {@code true} to only include the pull requests from forks, {@code false} to exclude them
+     * @param owners      the owners of the forks to include whatever the other option, or the only ones to include
+     *                    along with {@code acceptForks}; empty for all the owners
+     */
+    public PullRequestForkFilter(boolean acceptForks, IdentitySetFilter owners) {
+        super(owners);
+        this.acceptForks = acceptForks;
+        this.owners = owners;
+    }
+
+    /**
+     * Return the full name of the source repository.
+     */
+    @Override
+    protected String getData(BitbucketPullRequest pullRequest) {
+        BitbucketRepository repository = getSourceRepository(pullRequest);
+        return repository != null ? repository.getFullName() : null;
+    }
+
+    /**
+     * The repositories of the listed pull request are enough.
+     */
+    @Override
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+        BitbucketRepository source = getSourceRepository(pullRequest);
+        BitbucketPullRequestDestination destination = pullRequest.getDestination();
+        BitbucketRepository target = destination != null ? destination.getRepository() : null;
+        if (source == null || target == null || source.getFullName() == null || target.getFullName() == null) {
+            return true;
+        }
+
+        boolean fork = !source.getFullName().equalsIgnoreCase(target.getFullName());
+        return isAccepted(acceptForks, owners, fork, source.getOwnerName());
+    }
+
+    /**
+     * Decides about a pull request, shared with the {@link PullRequestForkPrefilter}.
+     *
+     * @param acceptForks {@code true} to only include the pull requests from forks
+     * @param owners      the owners of the forks
+     * @param fork        {@code true} if the source repository is a fork
+     * @param owner       the owner of the source repository
+     * @return {@code true} if the pull request is included
+     */
+    static boolean isAccepted(boolean acceptForks, IdentitySetFilter owners, boolean fork, String owner) {
+        boolean listed = owners != null && owners.canFilter() && owners.accepted(owner);
+        if (acceptForks) {
+            return fork && (listed || owners == null || !owners.canFilter());
+        }
+        return !fork || listed;
+    }
+
+    private static BitbucketRepository getSourceRepository(BitbucketPullRequest pullRequest) {
+        BitbucketPullRequestSource source = pullRequest.getSource();
+        return source != null ? source.getRepository() : null;
+    }
+
+    /**
+     * The verdicts also depend on whether forks are included or excluded.
+     */
+    @Override
+    protected String getVerdictScope() {
+        return super.getVerdictScope() + (acceptForks ? " forks" : " origin");
+    }
+
+    public boolean isAcceptForks() {
+        return acceptForks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return acceptForks
+                ? "The pull request does not originate from an accepted fork. Skipped."
+                : "The pull request originates from a fork which is not trusted. Skipped.";
+    }
+
+}
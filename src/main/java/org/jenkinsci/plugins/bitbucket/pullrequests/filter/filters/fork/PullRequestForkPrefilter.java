@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.fork;
+
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMHeadOrigin;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestPrefilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+
+/**
+ * A {@link SCMHead} prefilter to include or exclude the pull requests from forks by the origin of the head, before the
+ * pull requests are listed, see {@link PullRequestForkFilter}.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestForkPrefilter extends AbstractPullRequestPrefilter<PullRequestSCMHead> {
+
+    private final boolean acceptForks;
+    private final IdentitySetFilter owners;
+
+    /**
+     * Constructor.
+     *
+     * @param acceptForks {@code true} to only include the pull requests from forks, {@code false} to exclude them
+     * @param owners      the owners of the forks, see {@link PullRequestForkFilter}
+     */
+    public PullRequestForkPrefilter(boolean acceptForks, IdentitySetFilter owners) {
+        super(null);
+        this.acceptForks = acceptForks;
+        this.owners = owners;
+    }
+
+    /**
+     * Return the head when it tells its origin, {@code null} otherwise.
+     */
+    @Override
+    protected PullRequestSCMHead getData(PullRequestSCMHead head) {
+        return head.getOrigin() != null ? head : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAccepted(PullRequestSCMHead head) {
+        return PullRequestForkFilter.isAccepted(acceptForks, owners, head.getOrigin() instanceof SCMHeadOrigin.Fork,
+                head.getRepoOwner());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(PullRequestSCMHead head) {
+        return acceptForks
+                ? "The pull request does not originate from an accepted fork. Skipped."
+                : "The pull request originates from a fork which is not trusted. Skipped.";
+    }
+
+}
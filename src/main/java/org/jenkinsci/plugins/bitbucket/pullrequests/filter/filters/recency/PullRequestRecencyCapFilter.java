@@ -0,0 +1,166 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.recency;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.PullRequestProperties;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link SCMHead} filter to only include the most recently updated pull requests of the repository.
+ *
+ * <p>The pull requests are ranked once per scan, when the filter evaluates the listed pull requests as a batch: a
+ * single pass keeps the most recent ones in a priority queue bounded by the cap, so ranking costs
+ * {@code O(n log cap)} whatever the number of open pull requests. Pull requests without an update time rank after
+ * the others, by their id.</p>
+ *
+ * <p>In scans triggered by a webhook the request only lists the pull requests of the event, and there is no way to
+ * list the others, so the event's pull requests are ranked among themselves. They were just updated, so they would
+ * rank among the most recent ones anyway. The cap is enforced against all the open pull requests by the next full
+ * scan.</p>
+ *
+ * @since 0.3.0
+ */
+public class PullRequestRecencyCapFilter extends AbstractPullRequestFilter<Long> {
+
+    /**
+     * Orders the ranked pull requests from the least to the most recent, the head of the queue is the next evicted.
+     */
+    private static final Comparator<Ranked> LEAST_RECENT_FIRST = Comparator.<Ranked>comparingLong(ranked -> ranked.updated)
+            .thenComparingLong(ranked -> ranked.id);
+
+    private final int maxPullRequests;
+
+    /**
+     * Constructor.
+     *
+     * @param maxPullRequests the number of pull requests to include, {@code 0} or less includes all of them
+     */
+    public PullRequestRecencyCapFilter(int maxPullRequests) {
+        super(null);
+        this.maxPullRequests = maxPullRequests;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Long getData(BitbucketPullRequest pullRequest) {
+        return PullRequestProperties.getUpdatedMillis(pullRequest);
+    }
+
+    /**
+     * The ranking only uses the listed pull requests.
+     */
+    @Override
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return false;
+    }
+
+    /**
+     * A pull request cannot be ranked alone, so those the batch did not decide are included.
+     */
+    @Override
+    protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+        return true;
+    }
+
+    /**
+     * Includes the most recently updated pull requests of the batch.
+     */
+    @Override
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        boolean[] accepted = new boolean[pullRequests.size()];
+        if (maxPullRequests <= 0 || pullRequests.size() <= maxPullRequests) {
+            Arrays.fill(accepted, true);
+            return accepted;
+        }
+
+        PriorityQueue<Ranked> mostRecent = new PriorityQueue<>(maxPullRequests + 1, LEAST_RECENT_FIRST);
+        for (int i = 0; i < accepted.length; i++) {
+            Ranked ranked = new Ranked(i, pullRequests.get(i), getData(pullRequests.get(i)));
+            if (mostRecent.size() < maxPullRequests) {
+                mostRecent.add(ranked);
+            } else if (LEAST_RECENT_FIRST.compare(ranked, mostRecent.peek()) > 0) {
+                mostRecent.poll();
+                mostRecent.add(ranked);
+            }
+        }
+        for (Ranked ranked : mostRecent) {
+            accepted[ranked.index] = true;
+        }
+        return accepted;
+    }
+
+    /**
+     * The verdicts depend on the cap, the filter of the base class is not used.
+     */
+    @Override
+    protected String getVerdictScope() {
+        return "top " + maxPullRequests;
+    }
+
+    public int getMaxPullRequests() {
+        return maxPullRequests;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        return "The pull request is not one of the " + maxPullRequests + " most recently updated. Skipped.";
+    }
+
+    /**
+     * A pull request of the batch with its ranking keys.
+     */
+    private static final class Ranked {
+
+        private final int index;
+        private final long updated;
+        private final long id;
+
+        private Ranked(int index, BitbucketPullRequest pullRequest, Long updated) {
+            this.index = index;
+            this.updated = updated != null ? updated : Long.MIN_VALUE;
+            this.id = parseId(pullRequest);
+        }
+
+        private static long parseId(BitbucketPullRequest pullRequest) {
+            try {
+                return Long.parseLong(pullRequest.getId());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.stale;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import jenkins.scm.api.SCMHead;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.PullRequestProperties;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link SCMHead} filter to exclude the pull requests which were not updated for a while.
+ *
+ * <p>The filter only reads the update time of the listed pull requests, so it never fetches a pull request. Pull
+ * requests whose update time is not listed are included. The verdicts are decided for the whole list when the scan
+ * starts, which also logs how many pull requests were skipped. As the cutoff moves with the time, the verdicts are
+ * never reused by later scans.</p>
+ *
+ * @since 0.3.0
+ */
+public class PullRequestStaleFilter extends AbstractPullRequestFilter<Long> {
+
+    private final int maxInactiveDays;
+
+    /**
+     * Constructor.
+     *
+     * @param maxInactiveDays the number of days a pull request may stay without update, {@code 0} or less includes
+     *                        all of them
+     */
+    public PullRequestStaleFilter(int maxInactiveDays) {
+        super(null);
+        this.maxInactiveDays = maxInactiveDays;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Long getData(BitbucketPullRequest pullRequest) {
+        return PullRequestProperties.getUpdatedMillis(pullRequest);
+    }
+
+    /**
+     * Only the listed update time is evaluated.
+     */
+    @Override
+    protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+        return isAccepted(pullRequest, getCutoffMillis());
+    }
+
+    /**
+     * Evaluates the batch with the same cutoff for all the pull requests.
+     */
+    @Override
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        long cutoff = getCutoffMillis();
+        boolean[] accepted = new boolean[pullRequests.size()];
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = isAccepted(pullRequests.get(i), cutoff);
+        }
+        return accepted;
+    }
+
+    private boolean isAccepted(BitbucketPullRequest pullRequest, long cutoff) {
+        if (maxInactiveDays <= 0) {
+            return true;
+        }
+
+        Long updated = getData(pullRequest);
+        return updated == null || updated >= cutoff;
+    }
+
+    private long getCutoffMillis() {
+        return System.currentTimeMillis() - TimeUnit.DAYS.toMillis(maxInactiveDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getSummary(List<BitbucketPullRequest> pullRequests, boolean[] accepted) {
+        int skipped = 0;
+        for (boolean isAccepted : accepted) {
+            if (!isAccepted) {
+                skipped++;
+            }
+        }
+        if (skipped == 0) {
+            return null;
+        }
+        return String.format("Skipping %d of %d pull requests not updated in the last %d days.", skipped,
+                pullRequests.size(), maxInactiveDays);
+    }
+
+    /**
+     * The verdicts depend on the current time, the cutoff of a later scan is not the one the verdicts were decided by.
+     */
+    @Override
+    protected boolean isVerdictReused() {
+        return false;
+    }
+
+    public int getMaxInactiveDays() {
+        return maxInactiveDays;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected String getMessage(BitbucketPullRequest pullRequest) {
+        Long updated = getData(pullRequest);
+        return "The pull request was not updated in the last " + maxInactiveDays + " days"
+                + (updated != null ? " (last update " + Instant.ofEpochMilli(updated) + ")" : "") + ". Skipped.";
+    }
+
+}
@@ -27,6 +27,9 @@ import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
 import jenkins.scm.api.SCMHead;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.List;
 
 /**
  * A {@link SCMHead} filter to exclusion the pull requests due to not contain any phrase.
@@ -42,6 +45,16 @@ public class PullRequestTitlePhraseExistsFilter extends AbstractPullRequestFilte
         super(filter);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TypeFilter} to validate the title
+     * @since 0.3.0
+     */
+    public PullRequestTitlePhraseExistsFilter(TypeFilter<String> filter) {
+        super(filter);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -50,6 +63,14 @@ public class PullRequestTitlePhraseExistsFilter extends AbstractPullRequestFilte
         return pullRequest.getTitle();
     }
 
+    /**
+     * Evaluates the batch with a single pass of the filter.
+     */
+    @Override
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        return isAcceptedAllByFilter(pullRequests);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -26,6 +26,9 @@ package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.title;
 import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
 import jenkins.scm.api.SCMHead;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.List;
 
 /**
  * A {@link SCMHead} filter to exclusion the pull requests due to contain any phrase.
@@ -41,6 +44,16 @@ public class PullRequestTitlePhraseNotExistsFilter extends PullRequestTitlePhras
         super(filter);
     }
 
+    /**
+     * Constructor.
+     *
+     * @param filter {@link TypeFilter} to validate the title
+     * @since 0.3.0
+     */
+    public PullRequestTitlePhraseNotExistsFilter(TypeFilter<String> filter) {
+        super(filter);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -53,6 +66,22 @@ public class PullRequestTitlePhraseNotExistsFilter extends PullRequestTitlePhras
         return !super.isAccepted(pullRequest);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean[] isAcceptedAll(List<BitbucketPullRequest> pullRequests) {
+        boolean[] accepted = super.isAcceptedAll(pullRequests);
+        if (!this.getFilter().canFilter()) {
+            return accepted;
+        }
+
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = !accepted[i];
+        }
+        return accepted;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,265 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets;
+
+import hudson.Extension;
+import hudson.model.AbstractDescribableImpl;
+import hudson.model.Descriptor;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import jenkins.model.Jenkins;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent.Lazy;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines.MatcherEngine;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IncludeExcludeStringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.verb.POST;
+
+import javax.annotation.Nonnull;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Phrases configured once on the controller and referenced by their id from the title and branch traits, in place of
+ * the phrases of each trait.
+ *
+ * <p>The phrases are compiled on first use into a single {@link TypeFilter} shared by all the jobs referencing the rule
+ * set, so the cost of the configuration does not grow with the number of jobs.</p>
+ *
+ * @since 0.3.0
+ */
+public class RuleSet extends AbstractDescribableImpl<RuleSet> {
+
+    private static final Logger LOGGER = Logger.getLogger(RuleSet.class.getName());
+
+    private final String id;
+    private final String phrase;
+    private final boolean ignoreCase;
+    private final boolean regex;
+    private String excludePhrase;
+    private String engineId;
+
+    private transient Lazy<TypeFilter<String>> filter = new Lazy<>(this::compile);
+
+    /**
+     * Constructor.
+     *
+     * @param id         the identifier referenced by the traits
+     * @param phrase     the phrases or the regular expression to match
+     * @param ignoreCase {@code true} to match ignoring the case
+     * @param regex      {@code true} if the phrase is a regular expression
+     */
+    @DataBoundConstructor
+    public RuleSet(String id, String phrase, boolean ignoreCase, boolean regex) {
+        this.id = StringUtils.trimToEmpty(id);
+        this.phrase = phrase;
+        this.ignoreCase = ignoreCase;
+        this.regex = regex;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getPhrase() {
+        return phrase;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public boolean isRegex() {
+        return regex;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getExcludePhrase() {
+        return excludePhrase;
+    }
+
+    /**
+     * Sets the phrases rejecting the data matched by the phrase.
+     *
+     * @param excludePhrase the phrase or the regular expression to reject
+     */
+    @DataBoundSetter
+    public void setExcludePhrase(String excludePhrase) {
+        this.excludePhrase = excludePhrase;
+        this.filter = new Lazy<>(this::compile);
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getEngineId() {
+        return engineId;
+    }
+
+    /**
+     * Sets the {@link MatcherEngine} compiling the phrases, none for the built-in phrases and regular expressions.
+     *
+     * @param engineId the identifier of the engine
+     */
+    @DataBoundSetter
+    public void setEngineId(String engineId) {
+        this.engineId = StringUtils.trimToNull(engineId);
+        this.filter = new Lazy<>(this::compile);
+    }
+
+    /**
+     * Return the filter of the rule set, compiled on first use and shared afterwards.
+     *
+     * @return the filter, {@code null} if the phrases are invalid
+     */
+    public TypeFilter<String> getFilter() {
+        return filter.get();
+    }
+
+    /**
+     * Recreates the holder of the filter, which XStream does not initialize, without compiling anything.
+     *
+     * @return this rule set
+     */
+    protected Object readResolve() {
+        filter = new Lazy<>(this::compile);
+        return this;
+    }
+
+    private TypeFilter<String> compile() {
+        try {
+            MatcherEngine engine = MatcherEngine.get(engineId);
+            if (engine != null) {
+                return StringUtils.isNotBlank(excludePhrase)
+                        ? engine.create(phrase, excludePhrase, ignoreCase, regex)
+                        : engine.create(phrase, ignoreCase, regex);
+            }
+            StringFilter include = createFilter(phrase);
+            if (StringUtils.isBlank(excludePhrase)) {
+                return include;
+            }
+            return new IncludeExcludeStringFilter(include, createFilter(excludePhrase));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "The rule set ''" + id + "'' is invalid, the pull requests are not filtered by it", e);
+            return null;
+        }
+    }
+
+    private StringFilter createFilter(String phrase) {
+        if (regex) {
+            int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
+            return new StringFilter(phrase != null ? Pattern.compile(phrase, regexFlags) : null);
+        }
+        return new StringFilter(phrase, ignoreCase);
+    }
+
+    @Extension
+    public static class DescriptorImpl extends Descriptor<RuleSet> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Nonnull
+        @Override
+        public String getDisplayName() {
+            return "Rule set";
+        }
+
+        /**
+         * Validates the identifier.
+         *
+         * @param id the identifier
+         * @return validation status
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        public FormValidation doCheckId(@QueryParameter("id") final String id) {
+            if (StringUtils.isBlank(id)) {
+                return FormValidation.error("The identifier is required");
+            }
+            return FormValidation.ok();
+        }
+
+        /**
+         * Populates the engine options.
+         *
+         * @return the engine options.
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        public ListBoxModel doFillEngineIdItems() {
+            ListBoxModel result = new ListBoxModel();
+            result.add("Phrases and regular expressions", "");
+            for (MatcherEngine engine : MatcherEngine.all()) {
+                result.add(engine.getDisplayName(), engine.getId());
+            }
+            return result;
+        }
+
+        /**
+         * Validates the phrases against a test sequence.
+         *
+         * @param phrase        the phrases or the regular expression
+         * @param ignoreCase    ignore case sensitivity
+         * @param regex         treat the phrase as regular expression
+         * @param excludePhrase the phrases rejecting the matches of the phrase, optional
+         * @param engineId      the identifier of the matcher engine, none for the built-in phrases
+         * @param testMatcher   the subject to validate
+         * @return validation status
+         */
+        @POST
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        public FormValidation doTestPhrase(@QueryParameter("phrase") final String phrase,
+                                           @QueryParameter("ignoreCase") final boolean ignoreCase,
+                                           @QueryParameter("regex") final boolean regex,
+                                           @QueryParameter("excludePhrase") final String excludePhrase,
+                                           @QueryParameter("engineId") final String engineId,
+                                           @QueryParameter("testMatcher") final String testMatcher) {
+            Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            RuleSet ruleSet = new RuleSet("test", phrase, ignoreCase, regex);
+            ruleSet.setExcludePhrase(excludePhrase);
+            ruleSet.setEngineId(engineId);
+            TypeFilter<String> filter = ruleSet.getFilter();
+            if (filter == null) {
+                return FormValidation.error("Invalid phrase");
+            }
+            if (filter.accepted(testMatcher)) {
+                return FormValidation.ok("The phrase is valid and matches!");
+            }
+            return FormValidation.warning("The phrase is valid but not matches!");
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets;
+
+import hudson.Extension;
+import hudson.ExtensionList;
+import jenkins.model.GlobalConfiguration;
+import net.sf.json.JSONObject;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.StaplerRequest;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link RuleSet}s of the controller, configured in the system configuration.
+ *
+ * <p>Each rule set is held once and compiles its filter once, whatever the number of jobs referencing it. Saving the
+ * configuration replaces the rule sets, so the jobs pick up the new phrases on their next scan.</p>
+ *
+ * @since 0.3.0
+ */
+@Extension
+public class RuleSetConfiguration extends GlobalConfiguration {
+
+    private static final Logger LOGGER = Logger.getLogger(RuleSetConfiguration.class.getName());
+
+    private List<RuleSet> ruleSets = new ArrayList<>();
+
+    private transient volatile Map<String, RuleSet> index = Collections.emptyMap();
+
+    /**
+     * Constructor, loading the saved rule sets.
+     */
+    public RuleSetConfiguration() {
+        load();
+        index = index(ruleSets);
+    }
+
+    RuleSetConfiguration(List<RuleSet> ruleSets) {
+        this.ruleSets = new ArrayList<>(ruleSets);
+        this.index = index(this.ruleSets);
+    }
+
+    /**
+     * Return the configuration of the controller.
+     *
+     * @return the configuration
+     */
+    public static RuleSetConfiguration get() {
+        return ExtensionList.lookupSingleton(RuleSetConfiguration.class);
+    }
+
+    /**
+     * Return the shared filter of a rule set of the controller.
+     *
+     * @param id the identifier of the rule set
+     * @return the filter, {@code null} if the rule set does not exist or is invalid
+     */
+    public static TypeFilter<String> getFilter(String id) {
+        RuleSet ruleSet = get().getRuleSet(id);
+        if (ruleSet == null) {
+            LOGGER.log(Level.WARNING, "The rule set ''{0}'' does not exist, the pull requests are not filtered by it", id);
+            return null;
+        }
+        return ruleSet.getFilter();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String getDisplayName() {
+        return "Bitbucket pull requests filter rule sets";
+    }
+
+    public List<RuleSet> getRuleSets() {
+        return Collections.unmodifiableList(ruleSets);
+    }
+
+    /**
+     * Replaces the rule sets, the first one wins among rule sets with the same identifier.
+     *
+     * @param ruleSets the rule sets
+     */
+    @DataBoundSetter
+    public synchronized void setRuleSets(List<RuleSet> ruleSets) {
+        this.ruleSets = ruleSets != null ? new ArrayList<>(ruleSets) : new ArrayList<>();
+        this.index = index(this.ruleSets);
+        save();
+    }
+
+    /**
+     * Looks up a rule set.
+     *
+     * @param id the identifier
+     * @return the rule set, {@code null} if none has the identifier
+     */
+    public RuleSet getRuleSet(String id) {
+        return StringUtils.isBlank(id) ? null : index.get(id.trim());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean configure(StaplerRequest req, JSONObject json) {
+        if (!json.has("ruleSets")) {
+            // a configuration without rule sets does not submit the property at all
+            setRuleSets(Collections.emptyList());
+        }
+        req.bindJSON(this, json);
+        return true;
+    }
+
+    private static Map<String, RuleSet> index(List<RuleSet> ruleSets) {
+        Map<String, RuleSet> index = new LinkedHashMap<>();
+        for (RuleSet ruleSet : ruleSets) {
+            index.putIfAbsent(ruleSet.getId(), ruleSet);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+}
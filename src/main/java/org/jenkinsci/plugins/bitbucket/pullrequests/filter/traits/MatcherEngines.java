@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines.MatcherEngine;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+/**
+ * The use of the {@link MatcherEngine}s shared by the title and branch traits.
+ */
+final class MatcherEngines {
+
+    private MatcherEngines() {
+    }
+
+    /**
+     * Populates the engine options, the built-in phrases and regular expressions first.
+     *
+     * @return the engine options
+     */
+    static ListBoxModel fillEngineIdItems() {
+        ListBoxModel result = new ListBoxModel();
+        result.add("Phrases and regular expressions", "");
+        for (MatcherEngine engine : MatcherEngine.all()) {
+            result.add(engine.getDisplayName(), engine.getId());
+        }
+        return result;
+    }
+
+    /**
+     * Compiles the phrases of a trait with an engine.
+     *
+     * @param engine         the engine
+     * @param includeExclude {@code true} for the include and exclude strategy
+     * @param phrase         the phrases
+     * @param excludePhrase  the phrases rejecting the accepted data, used by the include and exclude strategy
+     * @param ignoreCase     {@code true} to match ignoring the case
+     * @param regex          {@code true} if the phrases are regular expressions
+     * @return the filter, {@code null} if the engine does not support the phrases
+     */
+    static TypeFilter<String> create(MatcherEngine engine, boolean includeExclude, String phrase, String excludePhrase,
+                                     boolean ignoreCase, boolean regex) {
+        try {
+            return includeExclude
+                    ? engine.create(phrase, excludePhrase, ignoreCase, regex)
+                    : engine.create(phrase, ignoreCase, regex);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Validates the phrases of a trait with an engine.
+     *
+     * @param engine        the engine
+     * @param phrase        the phrases
+     * @param ignoreCase    {@code true} to match ignoring the case
+     * @param regex         {@code true} if the phrases are regular expressions
+     * @param excludePhrase the phrases rejecting the matches of the phrase, optional
+     * @param testMatcher   the subject to validate
+     * @return validation status
+     */
+    static FormValidation test(MatcherEngine engine, String phrase, boolean ignoreCase, boolean regex,
+                               String excludePhrase, String testMatcher) {
+        try {
+            TypeFilter<String> filter = StringUtils.isNotBlank(excludePhrase)
+                    ? engine.create(phrase, excludePhrase, ignoreCase, regex)
+                    : engine.create(phrase, ignoreCase, regex);
+            if (filter.accepted(testMatcher)) {
+                return FormValidation.ok("The phrase is valid and matches!");
+            }
+            return FormValidation.warning("The phrase is valid but not matches!");
+        } catch (RuntimeException e) {
+            return FormValidation.error("Invalid phrase for " + engine.getDisplayName() + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.Extension;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import jenkins.scm.api.SCMHeadCategory;
+import jenkins.scm.api.trait.SCMSourceContext;
+import jenkins.scm.api.trait.SCMSourceTrait;
+import jenkins.scm.api.trait.SCMSourceTraitDescriptor;
+import jenkins.scm.impl.trait.Discovery;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.author.PullRequestAuthorMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.author.PullRequestAuthorNotMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Discovery} trait for Bitbucket source that will ignore or accept pull requests by their author and
+ * optionally their reviewers.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestAuthorFilterTrait extends SCMSourceTrait {
+
+    private int strategyId;
+
+    private String identities;
+    private boolean includeReviewers;
+
+    /**
+     * Constructor.
+     */
+    @DataBoundConstructor
+    public PullRequestAuthorFilterTrait(int strategyId, String identities) {
+        this.strategyId = strategyId;
+        this.identities = identities;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public int getStrategyId() {
+        return this.strategyId;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getIdentities() {
+        return this.identities;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public boolean isIncludeReviewers() {
+        return includeReviewers;
+    }
+
+    /**
+     * Sets whether the reviewers are looked up as well as the author.
+     *
+     * @param includeReviewers {@code true} to look up the reviewers
+     */
+    @DataBoundSetter
+    public void setIncludeReviewers(boolean includeReviewers) {
+        this.includeReviewers = includeReviewers;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean includeCategory(@Nonnull SCMHeadCategory category) {
+        return category.isUncategorized();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void decorateContext(SCMSourceContext<?, ?> context) {
+        IdentitySetFilter filter = createFilter();
+        if (strategyId == 1) {
+            AbstractPullRequestFilter.register(context, new PullRequestAuthorNotMatchesFilter(filter, includeReviewers));
+        } else if (strategyId == 2) {
+            AbstractPullRequestFilter.register(context, new PullRequestAuthorMatchesFilter(filter, includeReviewers));
+        }
+    }
+
+    /**
+     * Create a filter to validate the data of pull request.
+     *
+     * @return A {@link TypeFilter} instance to validate the extracted data from pull request.
+     */
+    protected IdentitySetFilter createFilter() {
+        return new IdentitySetFilter(identities);
+    }
+
+    @Extension
+    @Discovery
+    public static class DescriptorImpl extends SCMSourceTraitDescriptor {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return "Filter by pull requests author";
+        }
+
+        /**
+         * Populates the strategy options.
+         *
+         * @return the strategy options.
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        public ListBoxModel doFillStrategyIdItems() {
+            ListBoxModel result = new ListBoxModel();
+            result.add("Accept pull requests of all authors", "0");
+            result.add("Ignore pull requests when the author is one of the users", "1");
+            result.add("Accept pull requests only when the author is one of the users", "2");
+            return result;
+        }
+
+        /**
+         * Validate the inputs
+         *
+         * @param identities  The logins, account identifiers or e-mails of the users
+         * @param testMatcher The identity to look up
+         * @return validation status
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        public FormValidation doTestIdentities(@QueryParameter("identities") final String identities,
+                                               @QueryParameter("testMatcher") final String testMatcher) {
+            IdentitySetFilter filter = new IdentitySetFilter(identities);
+            if (!filter.canFilter()) {
+                return FormValidation.warning("No users are listed!");
+            }
+            if (filter.accepted(testMatcher)) {
+                return FormValidation.ok("The user is one of the " + filter.getIdentities().size() + " listed users!");
+            }
+            return FormValidation.warning("The user is not one of the " + filter.getIdentities().size() + " listed users!");
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import jenkins.model.Jenkins;
+import jenkins.scm.api.SCMHeadCategory;
+import jenkins.scm.api.trait.SCMSourceContext;
+import jenkins.scm.api.trait.SCMSourceTrait;
+import jenkins.scm.api.trait.SCMSourceTraitDescriptor;
+import jenkins.scm.impl.trait.Discovery;
+import org.apache.commons.lang.math.NumberUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.description.PullRequestDescriptionPhraseExistsFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.description.PullRequestDescriptionPhraseNotExistsFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexComplexityAnalyzer;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexTimeoutException;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TextSearchFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.AncestorInPath;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.verb.POST;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link Discovery} trait for Bitbucket source that will ignore pull requests by the phrases of their description.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestDescriptionFilterTrait extends SCMSourceTrait {
+
+    private int strategyId;
+
+    private String phrase;
+    private boolean ignoreCase;
+    private boolean regex;
+    private int maxScanLength;
+
+    /**
+     * Constructor.
+     */
+    @DataBoundConstructor
+    public PullRequestDescriptionFilterTrait(int strategyId, String phrase, boolean ignoreCase, boolean regex) {
+        this.strategyId = strategyId;
+        this.phrase = phrase;
+        this.ignoreCase = ignoreCase;
+        this.regex = regex;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public int getStrategyId() {
+        return this.strategyId;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getPhrase() {
+        return this.phrase;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public boolean isRegex() {
+        return regex;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public int getMaxScanLength() {
+        return maxScanLength;
+    }
+
+    /**
+     * Sets the number of leading characters of the description searched for the phrases.
+     *
+     * @param maxScanLength the number of characters, {@code 0} or less for the default
+     */
+    @DataBoundSetter
+    public void setMaxScanLength(int maxScanLength) {
+        this.maxScanLength = maxScanLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean includeCategory(@Nonnull SCMHeadCategory category) {
+        return category.isUncategorized();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void decorateContext(SCMSourceContext<?, ?> context) {
+        TextSearchFilter filter = createFilter();
+        if (strategyId == 1) {
+            AbstractPullRequestFilter.register(context, new PullRequestDescriptionPhraseNotExistsFilter(filter));
+        } else if (strategyId == 2) {
+            AbstractPullRequestFilter.register(context, new PullRequestDescriptionPhraseExistsFilter(filter));
+        }
+    }
+
+    /**
+     * Create a filter to validate the data of pull request.
+     *
+     * @return A {@link TypeFilter} instance to validate the extracted data from pull request.
+     */
+    protected TextSearchFilter createFilter() {
+        try {
+            if (regex) {
+                int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
+                return new TextSearchFilter(phrase != null ? Pattern.compile(phrase, regexFlags) : null, maxScanLength);
+            }
+            return new TextSearchFilter(phrase, ignoreCase, maxScanLength);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    @Extension
+    @Discovery
+    public static class DescriptorImpl extends SCMSourceTraitDescriptor {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return "Filter by pull requests description";
+        }
+
+        /**
+         * Populates the strategy options.
+         *
+         * @return the strategy options.
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        public ListBoxModel doFillStrategyIdItems() {
+            ListBoxModel result = new ListBoxModel();
+            result.add("Accept all pull requests", "0");
+            result.add("Ignore pull request when found the phrase in the description", "1");
+            result.add("Only when the pull request description contains the phrase", "2");
+            return result;
+        }
+
+        /**
+         * Validate the inputs
+         *
+         * @param item          The item being configured, {@code null} in the system configuration
+         * @param phrase        The phrase or the regular expression as pattern to search
+         * @param ignoreCase    Ignore case sensitivity
+         * @param regex         Treat the phrase as regular expression
+         * @param maxScanLength The number of leading characters searched
+         * @param testMatcher   The subject to search by the pattern or the phrase
+         * @return validation status, with a performance warning for expensive regular expressions
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @POST
+        public FormValidation doTestPhrase(@AncestorInPath final Item item, @QueryParameter("phrase") final String phrase,
+                                           @QueryParameter("ignoreCase") final boolean ignoreCase,
+                                           @QueryParameter("regex") final boolean regex,
+                                           @QueryParameter("maxScanLength") final String maxScanLength,
+                                           @QueryParameter("testMatcher") final String testMatcher) {
+            if (item == null) {
+                Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            } else {
+                item.checkPermission(Item.CONFIGURE);
+            }
+            try {
+                int scanLength = NumberUtils.toInt(maxScanLength);
+                TextSearchFilter filter;
+                RegexComplexityAnalyzer.Report report = null;
+                if (regex) {
+                    int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
+                    report = RegexComplexityAnalyzer.analyze(phrase, regexFlags);
+                    filter = new TextSearchFilter(Pattern.compile(phrase, regexFlags), scanLength);
+                } else {
+                    filter = new TextSearchFilter(phrase, ignoreCase, scanLength);
+                }
+                FormValidation result;
+                try {
+                    if (filter.accepted(testMatcher)) {
+                        result = FormValidation.ok("The phrase is valid and found!");
+                    } else {
+                        result = FormValidation.warning("The phrase is valid but not found!");
+                    }
+                } catch (RegexTimeoutException e) {
+                    result = FormValidation.warning("The phrase is valid but exceeded the time budget on the test sequence!");
+                }
+                if (report != null && report.hasWarnings()) {
+                    return FormValidation.aggregate(Arrays.asList(result, FormValidation.warning(report.getSummary())));
+                }
+                return result;
+            } catch (Throwable t) {
+                return FormValidation.error("Invalid phrase: " + t.getMessage());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.Extension;
+import hudson.model.Item;
+import hudson.util.FormValidation;
+import jenkins.model.Jenkins;
+import jenkins.scm.api.SCMHeadCategory;
+import jenkins.scm.api.trait.SCMSourceContext;
+import jenkins.scm.api.trait.SCMSourceTrait;
+import jenkins.scm.api.trait.SCMSourceTraitDescriptor;
+import jenkins.scm.impl.trait.Discovery;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.expression.PullRequestExpressionFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.expression.PullRequestExpressionPrefilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestExpression;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestField;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestFields;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexComplexityAnalyzer;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexTimeoutException;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.AncestorInPath;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.verb.POST;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link Discovery} trait for Bitbucket source that will accept only the pull requests matching an expression over
+ * their source branch, target branch and title.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestExpressionFilterTrait extends SCMSourceTrait {
+
+    private final String expression;
+
+    /**
+     * Constructor.
+     *
+     * @param expression the expression accepting the pull requests
+     */
+    @DataBoundConstructor
+    public PullRequestExpressionFilterTrait(String expression) {
+        this.expression = expression;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean includeCategory(@Nonnull SCMHeadCategory category) {
+        return category.isUncategorized();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void decorateContext(SCMSourceContext<?, ?> context) {
+        PullRequestExpression filter = createFilter();
+        if (filter != null) {
+            // the heads failing on their branches are dropped before any pull request is listed or fetched
+            context.withPrefilter(new PullRequestExpressionPrefilter(filter));
+            AbstractPullRequestFilter.register(context, new PullRequestExpressionFilter(filter));
+        }
+    }
+
+    /**
+     * Create a filter to validate the pull request.
+     *
+     * @return A {@link PullRequestExpression} instance to validate the pull request, {@code null} if the expression
+     *         is invalid.
+     */
+    protected PullRequestExpression createFilter() {
+        try {
+            return PullRequestExpression.compile(expression);
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    @Extension
+    @Discovery
+    public static class DescriptorImpl extends SCMSourceTraitDescriptor {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return "Filter by pull requests expression";
+        }
+
+        /**
+         * Validate the expression
+         *
+         * @param item  The item being configured, {@code null} in the system configuration
+         * @param value The expression
+         * @return validation status, with a performance warning for expensive regular expressions
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        @POST
+        public FormValidation doCheckExpression(@AncestorInPath final Item item, @QueryParameter final String value) {
+            if (item == null) {
+                Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            } else {
+                item.checkPermission(Item.CONFIGURE);
+            }
+            try {
+                PullRequestExpression filter = PullRequestExpression.compile(value);
+                List<FormValidation> warnings = new ArrayList<>();
+                for (Pattern pattern : filter.getPatterns()) {
+                    RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze(pattern.pattern(), pattern.flags());
+                    if (report.hasWarnings()) {
+                        warnings.add(FormValidation.warning(pattern.pattern() + ": " + report.getSummary()));
+                    }
+                }
+                return warnings.isEmpty() ? FormValidation.ok() : FormValidation.aggregate(warnings);
+            } catch (Throwable t) {
+                return FormValidation.error("Invalid expression: " + t.getMessage());
+            }
+        }
+
+        /**
+         * Validate the expression against a sample pull request
+         *
+         * @param item       The item being configured, {@code null} in the system configuration
+         * @param expression The expression
+         * @param testSource The source branch of the sample pull request
+         * @param testTarget The target branch of the sample pull request
+         * @param testTitle  The title of the sample pull request
+         * @return validation status
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @POST
+        public FormValidation doTestExpression(@AncestorInPath final Item item, @QueryParameter("expression") final String expression,
+                                               @QueryParameter("testSource") final String testSource,
+                                               @QueryParameter("testTarget") final String testTarget,
+                                               @QueryParameter("testTitle") final String testTitle) {
+            if (item == null) {
+                Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+            } else {
+                item.checkPermission(Item.CONFIGURE);
+            }
+            try {
+                PullRequestExpression filter = PullRequestExpression.compile(expression);
+                Map<PullRequestField, String> sample = new EnumMap<>(PullRequestField.class);
+                sample.put(PullRequestField.SOURCE, testSource);
+                sample.put(PullRequestField.TARGET, testTarget);
+                sample.put(PullRequestField.TITLE, testTitle);
+                try {
+                    if (filter.accepted(PullRequestFields.of(sample))) {
+                        return FormValidation.ok("The expression is valid and accepts the pull request!");
+                    }
+                    return FormValidation.warning("The expression is valid but skips the pull request!");
+                } catch (RegexTimeoutException e) {
+                    return FormValidation.warning("The expression is valid but exceeded the time budget on the test pull request!");
+                }
+            } catch (Throwable t) {
+                return FormValidation.error("Invalid expression: " + t.getMessage());
+            }
+        }
+    }
+
+}
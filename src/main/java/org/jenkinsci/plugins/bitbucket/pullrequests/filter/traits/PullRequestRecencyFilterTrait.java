@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.Extension;
+import hudson.util.FormValidation;
+import jenkins.scm.api.SCMHeadCategory;
+import jenkins.scm.api.trait.SCMSourceContext;
+import jenkins.scm.api.trait.SCMSourceTrait;
+import jenkins.scm.api.trait.SCMSourceTraitDescriptor;
+import jenkins.scm.impl.trait.Discovery;
+import org.apache.commons.lang.math.NumberUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.recency.PullRequestRecencyCapFilter;
+import org.kohsuke.accmod.Restricted;
+import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.QueryParameter;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link Discovery} trait for Bitbucket source that will only accept the most recently updated pull requests.
+ *
+ * @since 0.3.0
+ */
+public class PullRequestRecencyFilterTrait extends SCMSourceTrait {
+
+    private int maxPullRequests;
+
+    /**
+     * Constructor.
+     */
+    @DataBoundConstructor
+    public PullRequestRecencyFilterTrait(int maxPullRequests) {
+        this.maxPullRequests = maxPullRequests;
+    }
+
+    @SuppressWarnings("unused") // used by Jelly EL
+    public int getMaxPullRequests() {
+        return this.maxPullRequests;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean includeCategory(@Nonnull SCMHeadCategory category) {
+        return category.isUncategorized();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void decorateContext(SCMSourceContext<?, ?> context) {
+        if (maxPullRequests > 0) {
+            AbstractPullRequestFilter.register(context, new PullRequestRecencyCapFilter(maxPullRequests));
+        }
+    }
+
+    @Extension
+    @Discovery
+    public static class DescriptorImpl extends SCMSourceTraitDescriptor {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDisplayName() {
+            return "Filter by pull requests recency";
+        }
+
+        /**
+         * Validate the cap.
+         *
+         * @param value The number of pull requests to accept
+         * @return validation status
+         */
+        @Nonnull
+        @Restricted(NoExternalUse.class)
+        @SuppressWarnings("unused") // stapler
+        public FormValidation doCheckMaxPullRequests(@QueryParameter final String value) {
+            if (NumberUtils.toInt(value) <= 0) {
+                return FormValidation.warning("Every pull request is accepted!");
+            }
+            return FormValidation.ok();
+        }
+    }
+
+}
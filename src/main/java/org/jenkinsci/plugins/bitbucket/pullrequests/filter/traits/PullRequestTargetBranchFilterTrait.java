@@ -23,22 +23,40 @@
  */
 package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
 
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestTargetBranchMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestTargetBranchMatchesPrefilter;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestTargetBranchNotMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestTargetBranchNotMatchesPrefilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets.RuleSet;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets.RuleSetConfiguration;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent.Lazy;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines.MatcherEngine;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IncludeExcludeStringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.MemoizingTypeFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexComplexityAnalyzer;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.RegexTimeoutException;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
 import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
+import org.kohsuke.stapler.AncestorInPath;
 import org.kohsuke.stapler.DataBoundConstructor;
+import org.kohsuke.stapler.DataBoundSetter;
 import org.kohsuke.stapler.QueryParameter;
+import org.kohsuke.stapler.verb.POST;
 
 import hudson.Extension;
+import hudson.model.Item;
 import hudson.util.FormValidation;
 import hudson.util.ListBoxModel;
+import jenkins.model.Jenkins;
 import jenkins.scm.api.SCMHeadCategory;
 import jenkins.scm.api.trait.SCMSourceContext;
 import jenkins.scm.api.trait.SCMSourceTrait;
@@ -58,6 +76,11 @@ public class PullRequestTargetBranchFilterTrait extends SCMSourceTrait {
 	private String phrase;
 	private boolean ignoreCase;
 	private boolean regex;
+	private String excludePhrase;
+	private String engineId;
+	private String ruleSetId;
+
+	private transient Lazy<TypeFilter<String>> filter = new Lazy<>(this::compileFilter);
 
 	/**
 	 * Constructor.
@@ -90,6 +113,56 @@ public class PullRequestTargetBranchFilterTrait extends SCMSourceTrait {
 		return regex;
 	}
 
+	@SuppressWarnings("unused") // used by Jelly EL
+	public String getExcludePhrase() {
+		return excludePhrase;
+	}
+
+	/**
+	 * Sets the phrases rejecting a pull request accepted by the phrase, used by the include and exclude strategy.
+	 *
+	 * @param excludePhrase the phrase or the regular expression to reject
+	 * @since 0.3.0
+	 */
+	@DataBoundSetter
+	public void setExcludePhrase(String excludePhrase) {
+		this.excludePhrase = excludePhrase;
+		this.filter = new Lazy<>(this::compileFilter);
+	}
+
+	@SuppressWarnings("unused") // used by Jelly EL
+	public String getEngineId() {
+		return engineId;
+	}
+
+	/**
+	 * Sets the {@link MatcherEngine} compiling the phrases, none for the built-in phrases and regular expressions.
+	 *
+	 * @param engineId the identifier of the engine
+	 * @since 0.3.0
+	 */
+	@DataBoundSetter
+	public void setEngineId(String engineId) {
+		this.engineId = StringUtils.trimToNull(engineId);
+		this.filter = new Lazy<>(this::compileFilter);
+	}
+
+	@SuppressWarnings("unused") // used by Jelly EL
+	public String getRuleSetId() {
+		return ruleSetId;
+	}
+
+	/**
+	 * Sets the {@link RuleSet} of the controller used in place of the phrases of the trait.
+	 *
+	 * @param ruleSetId the identifier of the rule set, none to use the phrases of the trait
+	 * @since 0.3.0
+	 */
+	@DataBoundSetter
+	public void setRuleSetId(String ruleSetId) {
+		this.ruleSetId = StringUtils.trimToNull(ruleSetId);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -103,12 +176,81 @@ public class PullRequestTargetBranchFilterTrait extends SCMSourceTrait {
 	 */
 	@Override
 	protected void decorateContext(SCMSourceContext<?, ?> context) {
-		StringFilter filter = createFilter();
+		if (strategyId != 1 && strategyId != 2 && strategyId != 3) {
+			return;
+		}
+		TypeFilter<String> filter = getFilter();
+		if (filter == null) {
+			return;
+		}
 		if (strategyId == 1) {
-			context.withFilter(new PullRequestTargetBranchNotMatchesFilter(filter));
-		} else if (strategyId == 2) {
-			context.withFilter(new PullRequestTargetBranchMatchesFilter(filter));
+			context.withPrefilter(new PullRequestTargetBranchNotMatchesPrefilter(filter));
+			AbstractPullRequestFilter.register(context, new PullRequestTargetBranchNotMatchesFilter(filter));
+		} else {
+			context.withPrefilter(new PullRequestTargetBranchMatchesPrefilter(filter));
+			AbstractPullRequestFilter.register(context, new PullRequestTargetBranchMatchesFilter(filter));
+		}
+	}
+
+	/**
+	 * Return the filter of the strategy, compiled on first use and kept for the next scans. The filter of a rule set
+	 * is looked up on each call instead, so that changes of the rule set apply.
+	 *
+	 * @return A {@link TypeFilter} instance to validate the extracted data from pull request.
+	 * @since 0.3.0
+	 */
+	protected TypeFilter<String> getFilter() {
+		if (ruleSetId != null) {
+			return RuleSetConfiguration.getFilter(ruleSetId);
+		}
+		return filter.get();
+	}
+
+	/**
+	 * Tells if the filter has been compiled, which never happens while the trait is loaded.
+	 */
+	boolean isFilterCompiled() {
+		return filter.isInitialized();
+	}
+
+	/**
+	 * Recreates the holder of the filter, which XStream does not initialize, without compiling anything: loading
+	 * thousands of jobs compiles no pattern.
+	 *
+	 * @return this trait
+	 */
+	protected Object readResolve() {
+		filter = new Lazy<>(this::compileFilter);
+		return this;
+	}
+
+	/**
+	 * Compiles the filter of the strategy, remembering the verdicts of the built-in phrases and regular expressions
+	 * across the scans: almost every pull request targets one of a handful of branches, so each branch name is matched
+	 * once. The verdicts of an engine may change with its data, such as a reloaded list file, so they are not
+	 * remembered.
+	 */
+	private TypeFilter<String> compileFilter() {
+		TypeFilter<String> filter = createEngineFilter();
+		return engineId == null ? MemoizingTypeFilter.of(filter) : filter;
+	}
+
+	/**
+	 * Create the filter of the strategy with the selected rule set, or with the selected engine, or with the built-in
+	 * phrases and regular expressions when none is selected.
+	 *
+	 * @return A {@link TypeFilter} instance to validate the extracted data from pull request.
+	 * @since 0.3.0
+	 */
+	protected TypeFilter<String> createEngineFilter() {
+		if (ruleSetId != null) {
+			return RuleSetConfiguration.getFilter(ruleSetId);
+		}
+		MatcherEngine engine = MatcherEngine.get(engineId);
+		if (engine != null) {
+			return MatcherEngines.create(engine, strategyId == 3, phrase, excludePhrase, ignoreCase, regex);
 		}
+		return strategyId == 3 ? createIncludeExcludeFilter() : createFilter();
 	}
 
 	/**
@@ -118,6 +260,26 @@ public class PullRequestTargetBranchFilterTrait extends SCMSourceTrait {
 	 *         pull request.
 	 */
 	protected StringFilter createFilter() {
+		return createFilter(phrase);
+	}
+
+	/**
+	 * Create a filter accepting the data matching the phrase but not the exclude phrase, both decided by a single
+	 * pattern.
+	 *
+	 * @return A {@link TypeFilter} instance to validate the extracted data from pull request.
+	 * @since 0.3.0
+	 */
+	protected StringFilter createIncludeExcludeFilter() {
+		StringFilter include = createFilter(phrase);
+		StringFilter exclude = createFilter(excludePhrase);
+		if (include == null || exclude == null) {
+			return null;
+		}
+		return new IncludeExcludeStringFilter(include, exclude);
+	}
+
+	private StringFilter createFilter(String phrase) {
 		try {
 			if (regex) {
 				int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
@@ -154,36 +316,108 @@ public class PullRequestTargetBranchFilterTrait extends SCMSourceTrait {
 			result.add("Accept pull requests with all target branches", "0");
 			result.add("Ignore pull requests when target branch matches the phrase", "1");
 			result.add("Accept pull request only when target branch matches the phrase", "2");
+			result.add("Accept pull requests when the target branch matches the phrase but not the exclude phrase", "3");
 			return result;
 		}
 
+		/**
+		 * Populates the engine options.
+		 *
+		 * @return the engine options.
+		 */
+		@Nonnull
+		@Restricted(NoExternalUse.class)
+		@SuppressWarnings("unused") // stapler
+		public ListBoxModel doFillEngineIdItems() {
+			return MatcherEngines.fillEngineIdItems();
+		}
+
+		/**
+		 * Populates the rule set options.
+		 *
+		 * @return the rule set options.
+		 */
+		@Nonnull
+		@Restricted(NoExternalUse.class)
+		@SuppressWarnings("unused") // stapler
+		public ListBoxModel doFillRuleSetIdItems() {
+			return RuleSets.fillRuleSetIdItems();
+		}
+
 		/**
 		 * Validate the inputs
 		 *
+		 * @param item        The item being configured, {@code null} in the system configuration
 		 * @param phrase      The phrase or the regular expression as pattern to
 		 *                    matching
 		 * @param ignoreCase  Ignore case sensitivity
 		 * @param regex       Treat the phrase as regular expression
+		 * @param excludePhrase The phrase or the regular expression rejecting the matches of the phrase, optional
+		 * @param engineId    The identifier of the matcher engine, none for the built-in phrases
+		 * @param ruleSetId   The identifier of the rule set used in place of the phrases, optional
 		 * @param testMatcher The subject to validate by the pattern or the phrase
-		 * @return validation status
+		 * @return validation status, with a performance warning for expensive
+		 *         regular expressions
 		 */
 		@Nonnull
 		@Restricted(NoExternalUse.class)
-		public FormValidation doTestPhrase(@QueryParameter("phrase") final String phrase,
+		@POST
+		public FormValidation doTestPhrase(@AncestorInPath final Item item, @QueryParameter("phrase") final String phrase,
 				@QueryParameter("ignoreCase") final boolean ignoreCase, @QueryParameter("regex") final boolean regex,
+				@QueryParameter("excludePhrase") final String excludePhrase,
+				@QueryParameter("engineId") final String engineId,
+				@QueryParameter("ruleSetId") final String ruleSetId,
 				@QueryParameter("testMatcher") final String testMatcher) {
+			if (item == null) {
+				Jenkins.get().checkPermission(Jenkins.ADMINISTER);
+			} else {
+				item.checkPermission(Item.CONFIGURE);
+			}
+			if (StringUtils.isNotBlank(ruleSetId)) {
+				return RuleSets.test(ruleSetId.trim(), testMatcher);
+			}
+			MatcherEngine engine = MatcherEngine.get(engineId);
+			if (engine != null) {
+				return MatcherEngines.test(engine, phrase, ignoreCase, regex, excludePhrase, testMatcher);
+			}
 			try {
 				StringFilter filter;
+				RegexComplexityAnalyzer.Report report = null;
 				if (regex) {
-					filter = new StringFilter(Pattern.compile(phrase, ignoreCase ? Pattern.CASE_INSENSITIVE : 0));
+					int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
+					report = RegexComplexityAnalyzer.analyze(phrase, regexFlags);
+					filter = new StringFilter(Pattern.compile(phrase, regexFlags));
 				} else {
 					filter = new StringFilter(phrase, ignoreCase);
 				}
-				if (filter.accepted(testMatcher)) {
-					return FormValidation.ok("The phrase is valid and matches!");
-				} else {
-					return FormValidation.warning("The phrase is valid but not matches!");
+				if (StringUtils.isNotBlank(excludePhrase)) {
+					StringFilter exclude;
+					if (regex) {
+						int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
+						RegexComplexityAnalyzer.Report excludeReport = RegexComplexityAnalyzer.analyze(excludePhrase, regexFlags);
+						if (report == null || !report.hasWarnings()) {
+							report = excludeReport;
+						}
+						exclude = new StringFilter(Pattern.compile(excludePhrase, regexFlags));
+					} else {
+						exclude = new StringFilter(excludePhrase, ignoreCase);
+					}
+					filter = new IncludeExcludeStringFilter(filter, exclude);
+				}
+				FormValidation result;
+				try {
+					if (filter.accepted(testMatcher)) {
+						result = FormValidation.ok("The phrase is valid and matches!");
+					} else {
+						result = FormValidation.warning("The phrase is valid but not matches!");
+					}
+				} catch (RegexTimeoutException e) {
+					result = FormValidation.warning("The phrase is valid but exceeded the time budget on the test sequence!");
+				}
+				if (report != null && report.hasWarnings()) {
+					return FormValidation.aggregate(Arrays.asList(result, FormValidation.warning(report.getSummary())));
 				}
+				return result;
 			} catch (Throwable t) {
 				return FormValidation.error("Invalid phrase: " + t.getMessage());
 			}
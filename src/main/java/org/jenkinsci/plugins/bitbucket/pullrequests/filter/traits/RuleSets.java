@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import hudson.util.FormValidation;
+import hudson.util.ListBoxModel;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets.RuleSet;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets.RuleSetConfiguration;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+/**
+ * The use of the {@link RuleSet}s shared by the title and branch traits.
+ */
+final class RuleSets {
+
+    private RuleSets() {
+    }
+
+    /**
+     * Populates the rule set options, the phrases of the trait first.
+     *
+     * @return the rule set options
+     */
+    static ListBoxModel fillRuleSetIdItems() {
+        ListBoxModel result = new ListBoxModel();
+        result.add("None, use the phrases below", "");
+        for (RuleSet ruleSet : RuleSetConfiguration.get().getRuleSets()) {
+            result.add(ruleSet.getId(), ruleSet.getId());
+        }
+        return result;
+    }
+
+    /**
+     * Validates a rule set.
+     *
+     * @param ruleSetId   the identifier of the rule set
+     * @param testMatcher the subject to validate
+     * @return validation status
+     */
+    static FormValidation test(String ruleSetId, String testMatcher) {
+        RuleSet ruleSet = RuleSetConfiguration.get().getRuleSet(ruleSetId);
+        if (ruleSet == null) {
+            return FormValidation.error("The rule set '" + ruleSetId + "' does not exist");
+        }
+        TypeFilter<String> filter = ruleSet.getFilter();
+        if (filter == null) {
+            return FormValidation.error("The rule set '" + ruleSetId + "' is invalid");
+        }
+        if (filter.accepted(testMatcher)) {
+            return FormValidation.ok("The rule set matches!");
+        }
+        return FormValidation.warning("The rule set does not match!");
+    }
+
+}
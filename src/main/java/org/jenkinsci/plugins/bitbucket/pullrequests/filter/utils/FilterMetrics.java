@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Controller-wide counters of the pull request filters.
+ *
+ * @since 0.3.0
+ */
+public final class FilterMetrics {
+
+    private static final LongAdder REGEX_TIMEOUTS = new LongAdder();
+
+    private static final LongAdder COALESCED_FETCHES = new LongAdder();
+
+    private static final LongAdder DEADLINE_FALLBACKS = new LongAdder();
+
+    private static final LongAdder REUSED_VERDICTS = new LongAdder();
+
+    private FilterMetrics() {
+    }
+
+    /**
+     * Records a pattern evaluation aborted due to exceeding its time budget.
+     */
+    public static void recordRegexTimeout() {
+        REGEX_TIMEOUTS.increment();
+    }
+
+    public static long getRegexTimeouts() {
+        return REGEX_TIMEOUTS.sum();
+    }
+
+    /**
+     * Records a pull request fetch served by the same fetch already in flight.
+     */
+    public static void recordCoalescedFetch() {
+        COALESCED_FETCHES.increment();
+    }
+
+    public static long getCoalescedFetches() {
+        return COALESCED_FETCHES.sum();
+    }
+
+    /**
+     * Records a pull request decided by the fallback verdict because the scan exceeded its time budget.
+     */
+    public static void recordDeadlineFallback() {
+        DEADLINE_FALLBACKS.increment();
+    }
+
+    public static long getDeadlineFallbacks() {
+        return DEADLINE_FALLBACKS.sum();
+    }
+
+    /**
+     * Records a verdict of a previous scan reused for an unchanged pull request.
+     */
+    public static void recordReusedVerdict() {
+        REUSED_VERDICTS.increment();
+    }
+
+    public static long getReusedVerdicts() {
+        return REUSED_VERDICTS.sum();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads optional properties of the pull requests, which only some versions or some implementations of the Bitbucket
+ * API (Cloud or Server) provide, so they cannot be called through the interfaces.
+ *
+ * @since 0.3.0
+ */
+public final class PullRequestProperties {
+
+    private static final Logger LOGGER = Logger.getLogger(PullRequestProperties.class.getName());
+
+    /**
+     * The address of Bitbucket Cloud, which starts the links of its pull requests.
+     */
+    private static final String CLOUD_URL = "https://bitbucket.org/";
+
+    /**
+     * The public getters of each implementation class, looked up once per class.
+     */
+    private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<Map<String, Method>>() {
+        @Override
+        protected Map<String, Method> computeValue(Class<?> type) {
+            Map<String, Method> getters = new HashMap<>();
+            for (Method method : type.getMethods()) {
+                if (method.getParameterCount() == 0 && method.getReturnType() != void.class
+                        && !Modifier.isStatic(method.getModifiers()) && method.getDeclaringClass() != Object.class) {
+                    getters.put(method.getName(), method);
+                }
+            }
+            return Collections.unmodifiableMap(getters);
+        }
+    };
+
+    private PullRequestProperties() {
+    }
+
+    /**
+     * Reads the first property available on the object.
+     *
+     * @param object      the pull request, or any part of it
+     * @param getterNames the names of the getters, in the order of preference
+     * @return the value of the first available getter, {@code null} if none is available or it returned
+     *         {@code null}
+     */
+    public static Object get(Object object, String... getterNames) {
+        if (object == null) {
+            return null;
+        }
+
+        Map<String, Method> getters = GETTERS.get(object.getClass());
+        for (String getterName : getterNames) {
+            Method getter = getters.get(getterName);
+            if (getter != null) {
+                try {
+                    return getter.invoke(object);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    LOGGER.log(Level.FINE, "Cannot read " + getterName + " of " + object.getClass().getName(), e);
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tells if the pull request comes from Bitbucket Cloud, by its link.
+     *
+     * @param pullRequest the pull request
+     * @return {@code true} if the pull request is linked to Bitbucket Cloud
+     */
+    public static boolean isCloud(Object pullRequest) {
+        Object link = get(pullRequest, "getLink");
+        return link instanceof String && ((String) link).startsWith(CLOUD_URL);
+    }
+
+    /**
+     * Reads the last update time of the pull request: the Bitbucket Cloud API provides it as an ISO-8601 date, the
+     * Bitbucket Server API as milliseconds since the epoch.
+     *
+     * @param pullRequest the pull request
+     * @return the update time in milliseconds since the epoch, {@code null} if the pull request does not provide it
+     */
+    public static Long getUpdatedMillis(Object pullRequest) {
+        Object updated = get(pullRequest, "getUpdatedOn", "getUpdatedDate");
+        if (updated instanceof Number) {
+            return ((Number) updated).longValue();
+        } else if (updated instanceof Date) {
+            return ((Date) updated).getTime();
+        } else if (updated instanceof TemporalAccessor && ((TemporalAccessor) updated).isSupported(ChronoField.INSTANT_SECONDS)) {
+            return Instant.from((TemporalAccessor) updated).toEpochMilli();
+        } else if (updated instanceof String) {
+            return parseMillis((String) updated);
+        }
+        return null;
+    }
+
+    private static Long parseMillis(String updated) {
+        String value = updated.trim();
+        try {
+            if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+                return Long.parseLong(value);
+            }
+            return OffsetDateTime.parse(value).toInstant().toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            LOGGER.log(Level.FINE, "Cannot parse the update time " + value, e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import jenkins.util.SystemProperties;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs the blocking fetches of pull requests off the scan thread.
+ *
+ * <p>On a JVM with virtual threads (Java 21 and newer) every fetch gets a virtual thread, so hundreds of fetches
+ * waiting on the network cost no platform thread. Older JVMs get a bounded pool of daemon threads. The choice is made
+ * once at runtime and reported by {@link #getDescription()}. In both cases at most {@link #MAX_CONCURRENCY} fetches run
+ * at once, to spare the Bitbucket server.</p>
+ *
+ * @since 0.3.0
+ */
+public final class FetchExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(FetchExecutor.class.getName());
+
+    /**
+     * The number of platform threads when virtual threads are not available.
+     */
+    public static final int POOL_SIZE = Math.max(1, SystemProperties.getInteger(FetchExecutor.class.getName() + ".poolSize", 8));
+
+    /**
+     * The number of fetches running at once.
+     */
+    public static final int MAX_CONCURRENCY = Math.max(1, SystemProperties.getInteger(FetchExecutor.class.getName() + ".maxConcurrency", 200));
+
+    /**
+     * Disables virtual threads even when the JVM supports them.
+     */
+    private static final boolean DISABLE_VIRTUAL_THREADS = SystemProperties.getBoolean(FetchExecutor.class.getName() + ".disableVirtualThreads");
+
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final Semaphore permits;
+
+    private FetchExecutor(ExecutorService executor, boolean virtual, int concurrency) {
+        this.executor = executor;
+        this.virtual = virtual;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * Return the executor shared by all the scans, created on first use.
+     *
+     * @return the executor
+     */
+    public static FetchExecutor get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Submits a fetch.
+     *
+     * @param call the fetch
+     * @param <V>  the result type
+     * @return the future of the fetch, cancelling it interrupts the fetch
+     */
+    public <V> Future<V> submit(Callable<V> call) {
+        return executor.submit(() -> {
+            permits.acquire();
+            try {
+                return call.call();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Describes the threads running the fetches, for diagnostics.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        if (virtual) {
+            return "virtual threads, up to " + permits.availablePermits() + " free of " + MAX_CONCURRENCY + " concurrent fetches";
+        }
+        return POOL_SIZE + " platform threads, up to " + Math.min(POOL_SIZE, MAX_CONCURRENCY) + " concurrent fetches";
+    }
+
+    static FetchExecutor create(boolean preferVirtual) {
+        if (preferVirtual) {
+            ExecutorService virtualExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualExecutor != null) {
+                return new FetchExecutor(virtualExecutor, true, MAX_CONCURRENCY);
+            }
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new NamingThreadFactory(new DaemonThreadFactory(), "Bitbucket pull request fetch"));
+        pool.allowCoreThreadTimeOut(true);
+        return new FetchExecutor(pool, false, MAX_CONCURRENCY);
+    }
+
+    /**
+     * Looks up {@code Executors.newVirtualThreadPerTaskExecutor()}, which only exists on Java 21 and newer.
+     *
+     * @return the executor, {@code null} if the JVM has no virtual threads
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.log(Level.FINE, "Virtual threads are not available", e);
+            return null;
+        }
+    }
+
+    private static final class Holder {
+
+        private static final FetchExecutor INSTANCE = create(!DISABLE_VIRTUAL_THREADS);
+
+        static {
+            LOGGER.log(Level.INFO, "Pull requests are fetched with {0}", INSTANCE.getDescription());
+        }
+
+    }
+
+}
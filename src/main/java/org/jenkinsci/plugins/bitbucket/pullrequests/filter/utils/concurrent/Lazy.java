@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import java.util.function.Supplier;
+
+/**
+ * A value computed on first access and kept afterwards, for state too expensive to build when a configuration is
+ * loaded, such as compiled patterns. The value is computed at most once even under concurrent first accesses, and may
+ * be {@code null}.
+ *
+ * <p>Holders are meant for {@code transient} fields: XStream does not run field initializers, so the owners recreate
+ * their holders in {@code readResolve()}, which costs a single allocation.</p>
+ *
+ * @param <T> the value type
+ * @since 0.3.0
+ */
+public final class Lazy<T> {
+
+    private final Supplier<? extends T> supplier;
+
+    private volatile Holder<T> holder;
+
+    /**
+     * Constructor.
+     *
+     * @param supplier the computation of the value, called at most once
+     */
+    public Lazy(Supplier<? extends T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Return the value, computed on first access.
+     *
+     * @return the value
+     */
+    public T get() {
+        Holder<T> current = holder;
+        if (current == null) {
+            synchronized (this) {
+                current = holder;
+                if (current == null) {
+                    current = new Holder<>(supplier.get());
+                    holder = current;
+                }
+            }
+        }
+        return current.value;
+    }
+
+    /**
+     * Tells if the value has been computed.
+     *
+     * @return {@code true} once the value has been computed
+     */
+    public boolean isInitialized() {
+        return holder != null;
+    }
+
+    /**
+     * The computed value, distinguishing a computed {@code null} from no value yet.
+     */
+    private static final class Holder<T> {
+
+        private final T value;
+
+        private Holder(T value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds state for the duration of a scan, keyed by the identity of its request. The state is released together with
+ * the request, so nothing has to be cleaned up when the scan ends or is aborted: the state must therefore not reference
+ * the request, or it would never be released.
+ *
+ * <p>The state of a scan is created once, by the first caller, while the callers of the same scan wait for it. The
+ * scans of other jobs are not held up by the creation.</p>
+ *
+ * @param <S> the state type
+ * @since 0.3.0
+ */
+public final class ScanScoped<S> {
+
+    private final Map<Object, Slot<S>> states = new WeakHashMap<>();
+
+    /**
+     * Return the state of the scan, created on first access.
+     *
+     * @param request the request of the scan
+     * @param initial the supplier of the state
+     * @return the state of the scan
+     */
+    public S get(Object request, Supplier<S> initial) {
+        Slot<S> slot = getSlot(request);
+        if (slot.created) {
+            return slot.state;
+        }
+        synchronized (slot) {
+            if (!slot.created) {
+                slot.state = initial.get();
+                slot.created = true;
+            }
+            return slot.state;
+        }
+    }
+
+    /**
+     * Return the state of the scan, created on first access by a factory which may fail.
+     *
+     * @param request the request of the scan
+     * @param initial the factory of the state
+     * @return the state of the scan
+     * @throws IOException          if the factory failed
+     * @throws InterruptedException if the factory was interrupted
+     */
+    public S create(Object request, Factory<S> initial) throws IOException, InterruptedException {
+        Slot<S> slot = getSlot(request);
+        if (slot.created) {
+            return slot.state;
+        }
+        synchronized (slot) {
+            if (!slot.created) {
+                slot.state = initial.create();
+                slot.created = true;
+            }
+            return slot.state;
+        }
+    }
+
+    /**
+     * Return the slot of the scan; only the lookup holds the lock shared by all the scans.
+     */
+    private Slot<S> getSlot(Object request) {
+        synchronized (states) {
+            return states.computeIfAbsent(request, r -> new Slot<>());
+        }
+    }
+
+    /**
+     * Creates the state of a scan.
+     *
+     * @param <S> the state type
+     */
+    @FunctionalInterface
+    public interface Factory<S> {
+
+        S create() throws IOException, InterruptedException;
+
+    }
+
+    /**
+     * The state of a scan, created under the lock of the slot. The state is written before the volatile flag, so it
+     * is visible to the callers reading the flag.
+     */
+    private static final class Slot<S> {
+
+        private S state;
+        private volatile boolean created;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Coalesces concurrent calls for the same key, so the callers arriving while a call is in flight wait for its result
+ * instead of repeating it.
+ *
+ * <p>Results are not cached: a call arriving after the in-flight one completed starts a new call. When the caller
+ * executing the call is interrupted, the waiting callers retry on their own, so they never observe an interruption
+ * which was not theirs.</p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ * @since 0.3.0
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the call, or waits for the result of the call for the same key already in flight.
+     *
+     * @param key  the key of the call
+     * @param call the call
+     * @return the result of the call
+     * @throws IOException          if the call failed
+     * @throws InterruptedException if the current thread was interrupted
+     */
+    public V execute(K key, Call<V> call) throws IOException, InterruptedException {
+        while (true) {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing == null) {
+                return call(key, call, created);
+            }
+
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof InterruptedException) {
+                    continue;
+                }
+                throw rethrow(cause);
+            }
+        }
+    }
+
+    /**
+     * Return the number of calls in flight.
+     *
+     * @return the number of calls in flight
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V call(K key, Call<V> call, CompletableFuture<V> future) throws IOException, InterruptedException {
+        try {
+            V value = call.call();
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Wraps the failure of the shared call, so the stack trace of the waiting caller is kept.
+     */
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof IOException) {
+            return new IOException(cause.getMessage(), cause);
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * A call which may be coalesced.
+     *
+     * @param <V> the result type
+     */
+    @FunctionalInterface
+    public interface Call<V> {
+
+        V call() throws IOException, InterruptedException;
+
+    }
+
+}
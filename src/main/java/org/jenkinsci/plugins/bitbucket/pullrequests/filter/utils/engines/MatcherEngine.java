@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines;
+
+import hudson.ExtensionList;
+import hudson.ExtensionPoint;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An engine compiling the phrases of the title and branch traits into a {@link TypeFilter}, selectable in the trait
+ * configuration next to the built-in phrases and regular expressions.
+ *
+ * <p>Plugins register their engines as extensions, for example a hash set of exact names, a trie of prefixes or a
+ * lookup in an external index. The filters an engine creates are shared by the heads of a scan, so they must be safe
+ * for concurrent use, and their {@link Object#toString()} must describe their configuration: the verdicts of
+ * unchanged pull requests are reused by filters with equal descriptions.</p>
+ *
+ * @since 0.3.0
+ */
+public abstract class MatcherEngine implements ExtensionPoint {
+
+    private static final Logger LOGGER = Logger.getLogger(MatcherEngine.class.getName());
+
+    /**
+     * Return the identifier stored in the configuration of the traits.
+     *
+     * @return the identifier, unique among the engines
+     */
+    public abstract String getId();
+
+    /**
+     * Return the name of the engine displayed in the trait configuration.
+     *
+     * @return the name
+     */
+    public abstract String getDisplayName();
+
+    /**
+     * Compiles the phrases.
+     *
+     * @param phrase     the phrases as configured in the trait
+     * @param ignoreCase {@code true} to match ignoring the case
+     * @param regex      {@code true} if the phrase is a regular expression
+     * @return the filter
+     * @throws IllegalArgumentException if the engine does not support the phrases
+     */
+    public abstract TypeFilter<String> create(String phrase, boolean ignoreCase, boolean regex);
+
+    /**
+     * Compiles the phrases accepting the data, and those rejecting the accepted data. By default the data is evaluated
+     * by the two filters in turn, engines able to decide both at once should override it.
+     *
+     * @param phrase        the phrases accepting the data
+     * @param excludePhrase the phrases rejecting the accepted data
+     * @param ignoreCase    {@code true} to match ignoring the case
+     * @param regex         {@code true} if the phrases are regular expressions
+     * @return the filter
+     * @throws IllegalArgumentException if the engine does not support the phrases
+     */
+    public TypeFilter<String> create(String phrase, String excludePhrase, boolean ignoreCase, boolean regex) {
+        return new IncludeExcludeFilter(create(phrase, ignoreCase, regex), create(excludePhrase, ignoreCase, regex));
+    }
+
+    /**
+     * Return all the registered engines.
+     *
+     * @return the engines
+     */
+    public static List<MatcherEngine> all() {
+        return ExtensionList.lookup(MatcherEngine.class);
+    }
+
+    /**
+     * Looks up an engine.
+     *
+     * @param id the identifier of the engine
+     * @return the engine, {@code null} for the built-in phrases and regular expressions, which are also used when the
+     *         engine is no longer installed
+     */
+    public static MatcherEngine get(String id) {
+        if (StringUtils.isBlank(id)) {
+            return null;
+        }
+        for (MatcherEngine engine : all()) {
+            if (id.equals(engine.getId())) {
+                return engine;
+            }
+        }
+        LOGGER.log(Level.WARNING, "The matcher engine ''{0}'' is not installed, the phrases are matched as built-in phrases", id);
+        return null;
+    }
+
+    /**
+     * Accepts the data accepted by a filter and not rejected by another one.
+     */
+    private static final class IncludeExcludeFilter implements TypeFilter<String> {
+
+        private final TypeFilter<String> include;
+        private final TypeFilter<String> exclude;
+
+        private IncludeExcludeFilter(TypeFilter<String> include, TypeFilter<String> exclude) {
+            this.include = include;
+            this.exclude = exclude;
+        }
+
+        @Override
+        public boolean canFilter() {
+            return include.canFilter() || exclude.canFilter();
+        }
+
+        @Override
+        public boolean accepted(String data) {
+            return (!include.canFilter() || include.accepted(data)) && !(exclude.canFilter() && exclude.accepted(data));
+        }
+
+        @Override
+        public String toString() {
+            return include + " - " + exclude;
+        }
+    }
+
+}
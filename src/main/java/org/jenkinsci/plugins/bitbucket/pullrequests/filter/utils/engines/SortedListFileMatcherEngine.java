@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines;
+
+import hudson.Extension;
+import jenkins.model.Jenkins;
+import org.apache.commons.lang.StringUtils;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.SortedListFile;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.SortedListFileFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MatcherEngine} matching whole names, such as branch names, against sorted list files kept on the controller,
+ * so lists of tens of thousands of names are maintained once instead of in the configuration of every job.
+ *
+ * <p>The phrases name the files, separated by ',', ';' or new lines, in the {@code bitbucket-pullrequests-filter/lists}
+ * directory of {@code JENKINS_HOME}. The files are memory-mapped, looked up by binary search and reloaded when they
+ * change, see {@link SortedListFile}.</p>
+ *
+ * @since 0.3.0
+ */
+@Extension
+public class SortedListFileMatcherEngine extends MatcherEngine {
+
+    public static final String ID = "sortedListFile";
+
+    private static final String NAMES_SEPARATOR = ",;\n\r";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDisplayName() {
+        return "Exact names (sorted list files on the controller)";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeFilter<String> create(String phrase, boolean ignoreCase, boolean regex) {
+        if (regex) {
+            throw new IllegalArgumentException("List file names cannot be regular expressions");
+        }
+
+        Path directory = getListsDirectory().toAbsolutePath().normalize();
+        List<SortedListFile> files = new ArrayList<>();
+        for (String name : StringUtils.split(StringUtils.trimToEmpty(phrase), NAMES_SEPARATOR)) {
+            if (StringUtils.isBlank(name)) {
+                continue;
+            }
+            Path path = directory.resolve(name.trim()).normalize();
+            if (!path.startsWith(directory) || path.equals(directory)) {
+                throw new IllegalArgumentException("The list '" + name.trim() + "' is outside of " + directory);
+            }
+            files.add(SortedListFile.of(path));
+        }
+        return new SortedListFileFilter(files, ignoreCase);
+    }
+
+    /**
+     * Return the directory of the list files.
+     *
+     * @return the directory, which may not exist
+     */
+    protected Path getListsDirectory() {
+        return Jenkins.get().getRootDir().toPath().resolve("bitbucket-pullrequests-filter").resolve("lists");
+    }
+
+}
@@ -0,0 +1,238 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * A node of the evaluation tree of a {@link PullRequestExpression}.
+ *
+ * <p>Nodes evaluate to {@link Boolean#TRUE}, {@link Boolean#FALSE} or, in a partial evaluation, to {@code null} when
+ * the verdict depends on a field the pull request or the head does not carry.</p>
+ */
+abstract class ExpressionNode {
+
+    /**
+     * Evaluates the node.
+     *
+     * @param fields   the fields of the pull request or the head
+     * @param complete {@code false} to evaluate to {@code null} instead of evaluating missing fields
+     * @return the verdict, {@code null} if it is unknown in a partial evaluation
+     */
+    abstract Boolean evaluate(PullRequestFields fields, boolean complete);
+
+    /**
+     * Return the relative cost of the evaluation.
+     *
+     * @return the cost
+     */
+    abstract int getCost();
+
+    /**
+     * Collects the regular expressions of the conditions.
+     *
+     * @param patterns the collected patterns
+     */
+    abstract void collectPatterns(List<Pattern> patterns);
+
+    /**
+     * Collects the fields of the conditions.
+     *
+     * @param fields the collected fields
+     */
+    abstract void collectFields(Set<PullRequestField> fields);
+
+    /**
+     * Compares the nodes by their cost, keeping the written order of nodes of the same cost.
+     */
+    static final Comparator<ExpressionNode> BY_COST = Comparator.comparingInt(ExpressionNode::getCost);
+
+    /**
+     * A condition on a single field.
+     */
+    static final class Condition extends ExpressionNode {
+
+        private final PullRequestField field;
+        private final String operator;
+        private final String operand;
+        private final TypeFilter<String> filter;
+        private final boolean negated;
+
+        Condition(PullRequestField field, String operator, String operand, TypeFilter<String> filter, boolean negated) {
+            this.field = field;
+            this.operator = operator;
+            this.operand = operand;
+            this.filter = filter;
+            this.negated = negated;
+        }
+
+        @Override
+        Boolean evaluate(PullRequestFields fields, boolean complete) {
+            String value = fields.get(field);
+            if (value == null && !complete) {
+                return null;
+            }
+            return filter.accepted(value) != negated;
+        }
+
+        @Override
+        int getCost() {
+            return field.getCost();
+        }
+
+        @Override
+        void collectPatterns(List<Pattern> patterns) {
+            // the phrases of "has" are compiled by the filter itself, only the written regular expressions are collected
+            if (operator.endsWith("~") && filter instanceof StringFilter) {
+                patterns.addAll(((StringFilter) filter).getPatterns());
+            }
+        }
+
+        @Override
+        void collectFields(Set<PullRequestField> fields) {
+            fields.add(field);
+        }
+
+        @Override
+        public String toString() {
+            return field.getKeyword() + ' ' + operator + " \"" + operand.replace("\"", "\\\"") + '"';
+        }
+    }
+
+    /**
+     * Negates its operand.
+     */
+    static final class Not extends ExpressionNode {
+
+        private final ExpressionNode operand;
+
+        Not(ExpressionNode operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        Boolean evaluate(PullRequestFields fields, boolean complete) {
+            Boolean verdict = operand.evaluate(fields, complete);
+            return verdict != null ? !verdict : null;
+        }
+
+        @Override
+        int getCost() {
+            return operand.getCost();
+        }
+
+        @Override
+        void collectPatterns(List<Pattern> patterns) {
+            operand.collectPatterns(patterns);
+        }
+
+        @Override
+        void collectFields(Set<PullRequestField> fields) {
+            operand.collectFields(fields);
+        }
+
+        @Override
+        public String toString() {
+            return "!(" + operand + ')';
+        }
+    }
+
+    /**
+     * A conjunction or a disjunction, evaluating its operands from the cheapest one and stopping at the first operand
+     * deciding the verdict.
+     */
+    static final class Junction extends ExpressionNode {
+
+        private final boolean conjunction;
+        private final List<ExpressionNode> operands;
+        private final int cost;
+
+        Junction(boolean conjunction, List<ExpressionNode> operands) {
+            List<ExpressionNode> sorted = new ArrayList<>(operands);
+            sorted.sort(BY_COST);
+            this.conjunction = conjunction;
+            this.operands = Collections.unmodifiableList(sorted);
+            this.cost = sorted.stream().mapToInt(ExpressionNode::getCost).sum();
+        }
+
+        @Override
+        Boolean evaluate(PullRequestFields fields, boolean complete) {
+            boolean unknown = false;
+            for (ExpressionNode operand : operands) {
+                Boolean verdict = operand.evaluate(fields, complete);
+                if (verdict == null) {
+                    unknown = true;
+                } else if (verdict != conjunction) {
+                    // false in a conjunction, true in a disjunction
+                    return verdict;
+                }
+            }
+            return unknown ? null : conjunction;
+        }
+
+        @Override
+        int getCost() {
+            return cost;
+        }
+
+        @Override
+        void collectPatterns(List<Pattern> patterns) {
+            for (ExpressionNode operand : operands) {
+                operand.collectPatterns(patterns);
+            }
+        }
+
+        @Override
+        void collectFields(Set<PullRequestField> fields) {
+            for (ExpressionNode operand : operands) {
+                operand.collectFields(fields);
+            }
+        }
+
+        boolean isConjunction() {
+            return conjunction;
+        }
+
+        List<ExpressionNode> getOperands() {
+            return operands;
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream()
+                    .map(operand -> operand instanceof Junction ? "(" + operand + ")" : operand.toString())
+                    .collect(Collectors.joining(conjunction ? " && " : " || "));
+        }
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * A recursive descent parser of pull request expressions:
+ *
+ * <pre>
+ * expression := or
+ * or         := and ( "||" and )*
+ * and        := unary ( "&amp;&amp;" unary )*
+ * unary      := "!" unary | "(" or ")" | condition
+ * condition  := field ( "~" | "!~" | "has" | "!has" ) string
+ * field      := "source" | "target" | "title"
+ * </pre>
+ *
+ * <p>Strings are double quoted, {@code \"} stands for a quote and any other backslash is kept as is, so regular
+ * expressions need no extra escaping.</p>
+ */
+final class ExpressionParser {
+
+    private final String expression;
+    private int position;
+
+    private ExpressionParser(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * Parses an expression.
+     *
+     * @param expression the expression
+     * @return the root of the evaluation tree
+     * @throws ExpressionSyntaxException if the expression is invalid
+     */
+    static ExpressionNode parse(String expression) {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new ExpressionSyntaxException("The expression is empty", 0);
+        }
+        ExpressionParser parser = new ExpressionParser(expression);
+        ExpressionNode root = parser.parseOr();
+        parser.skipWhitespace();
+        if (parser.position < expression.length()) {
+            throw new ExpressionSyntaxException("Unexpected '" + expression.charAt(parser.position) + "'", parser.position);
+        }
+        return root;
+    }
+
+    private ExpressionNode parseOr() {
+        List<ExpressionNode> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (consume("||")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new ExpressionNode.Junction(false, flatten(operands, false));
+    }
+
+    private ExpressionNode parseAnd() {
+        List<ExpressionNode> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (consume("&&")) {
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new ExpressionNode.Junction(true, flatten(operands, true));
+    }
+
+    /**
+     * Merges nested junctions of the same kind, so their operands are ordered together.
+     */
+    private static List<ExpressionNode> flatten(List<ExpressionNode> operands, boolean conjunction) {
+        List<ExpressionNode> flat = new ArrayList<>(operands.size());
+        for (ExpressionNode operand : operands) {
+            if (operand instanceof ExpressionNode.Junction
+                    && ((ExpressionNode.Junction) operand).isConjunction() == conjunction) {
+                flat.addAll(((ExpressionNode.Junction) operand).getOperands());
+            } else {
+                flat.add(operand);
+            }
+        }
+        return flat;
+    }
+
+    private ExpressionNode parseUnary() {
+        skipWhitespace();
+        if (consume("!")) {
+            return new ExpressionNode.Not(parseUnary());
+        }
+        if (consume("(")) {
+            ExpressionNode node = parseOr();
+            expect(")");
+            return node;
+        }
+        return parseCondition();
+    }
+
+    private ExpressionNode parseCondition() {
+        skipWhitespace();
+        int fieldPosition = position;
+        String keyword = readWord();
+        PullRequestField field = PullRequestField.forKeyword(keyword);
+        if (field == null) {
+            String fields = Arrays.stream(PullRequestField.values())
+                    .map(PullRequestField::getKeyword)
+                    .collect(Collectors.joining(", "));
+            throw new ExpressionSyntaxException(keyword.isEmpty()
+                    ? "Expected a field (" + fields + ")"
+                    : "Unknown field '" + keyword + "', expected one of " + fields, fieldPosition);
+        }
+
+        skipWhitespace();
+        int operatorPosition = position;
+        boolean negated = consume("!");
+        String operator;
+        if (consume("~")) {
+            operator = "~";
+        } else if (readWord().equals("has")) {
+            operator = "has";
+        } else {
+            throw new ExpressionSyntaxException("Expected an operator (~, !~, has, !has)", operatorPosition);
+        }
+
+        skipWhitespace();
+        int operandPosition = position;
+        String operand = readString();
+        try {
+            StringFilter filter = operator.equals("~")
+                    ? new StringFilter(Pattern.compile(operand))
+                    : new StringFilter(operand, true);
+            return new ExpressionNode.Condition(field, negated ? "!" + operator : operator, operand, filter, negated);
+        } catch (PatternSyntaxException e) {
+            throw new ExpressionSyntaxException("Invalid regular expression: " + e.getDescription(), operandPosition, e);
+        }
+    }
+
+    private String readWord() {
+        int start = position;
+        while (position < expression.length() && Character.isLetter(expression.charAt(position))) {
+            position++;
+        }
+        return expression.substring(start, position);
+    }
+
+    private String readString() {
+        if (position >= expression.length() || expression.charAt(position) != '"') {
+            throw new ExpressionSyntaxException("Expected a double quoted string", position);
+        }
+        int start = position;
+        StringBuilder value = new StringBuilder();
+        for (position++; position < expression.length(); position++) {
+            char c = expression.charAt(position);
+            if (c == '"') {
+                position++;
+                return value.toString();
+            }
+            if (c == '\\' && position + 1 < expression.length() && expression.charAt(position + 1) == '"') {
+                c = '"';
+                position++;
+            }
+            value.append(c);
+        }
+        throw new ExpressionSyntaxException("Unterminated string", start);
+    }
+
+    private boolean consume(String token) {
+        skipWhitespace();
+        if (expression.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!consume(token)) {
+            throw new ExpressionSyntaxException("Expected '" + token + "'", position);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+}
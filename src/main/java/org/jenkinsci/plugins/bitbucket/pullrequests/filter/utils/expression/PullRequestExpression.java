@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link TypeFilter} accepting pull requests by a boolean expression over their fields, for example
+ * {@code target ~ "release/.*" && !(title has "WIP, DRAFT") && source !~ "dependabot/.*"}.
+ *
+ * <p>The expression is parsed once into an evaluation tree whose conditions are {@link StringFilter} instances. The
+ * operands of every {@code &&} and {@code ||} are ordered by the cost of their fields, so the branch conditions run
+ * before the title ones and the evaluation stops at the first operand deciding the verdict. Instances are immutable
+ * and can be shared by any number of threads.</p>
+ *
+ * @since 0.3.0
+ */
+public final class PullRequestExpression implements TypeFilter<PullRequestFields> {
+
+    private final ExpressionNode root;
+    private final Set<PullRequestField> fields;
+
+    private PullRequestExpression(ExpressionNode root) {
+        Set<PullRequestField> fields = EnumSet.noneOf(PullRequestField.class);
+        root.collectFields(fields);
+        this.root = root;
+        this.fields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Compiles an expression.
+     *
+     * @param expression the expression
+     * @return the compiled expression
+     * @throws ExpressionSyntaxException if the expression is invalid
+     */
+    public static PullRequestExpression compile(String expression) {
+        return new PullRequestExpression(ExpressionParser.parse(expression));
+    }
+
+    @Override
+    public boolean canFilter() {
+        return true;
+    }
+
+    /**
+     * Evaluates the expression, conditions on missing fields evaluate the missing value.
+     *
+     * @param data the fields of the pull request
+     * @return {@code true} if the expression holds
+     */
+    @Override
+    public boolean accepted(PullRequestFields data) {
+        return Boolean.TRUE.equals(root.evaluate(data, true));
+    }
+
+    /**
+     * Evaluates the expression as far as the fields allow.
+     *
+     * @param data the fields of the pull request or of the head
+     * @return the verdict, {@code null} if it depends on a missing field
+     */
+    public Boolean evaluate(PullRequestFields data) {
+        return root.evaluate(data, false);
+    }
+
+    /**
+     * Tells if the fields are enough to decide the verdict, without evaluating anything when they carry every field
+     * of the expression.
+     *
+     * @param data the fields of the pull request or of the head
+     * @return {@code true} if the verdict does not depend on a missing field
+     */
+    public boolean isDecidable(PullRequestFields data) {
+        for (PullRequestField field : fields) {
+            if (data.get(field) == null) {
+                return evaluate(data) != null;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return the fields the expression refers to.
+     *
+     * @return the fields
+     */
+    public Set<PullRequestField> getFields() {
+        return fields;
+    }
+
+    /**
+     * Return the regular expressions of the conditions, to review their complexity.
+     *
+     * @return the patterns, in evaluation order
+     */
+    public List<Pattern> getPatterns() {
+        List<Pattern> patterns = new ArrayList<>();
+        root.collectPatterns(patterns);
+        return patterns;
+    }
+
+    /**
+     * Describes the evaluation tree in evaluation order, equal expressions have equal descriptions.
+     */
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketBranch;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestDestination;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestSource;
+import jenkins.scm.api.SCMHead;
+
+/**
+ * The fields of a pull request an expression can refer to, with the relative cost of evaluating them.
+ *
+ * @since 0.3.0
+ */
+public enum PullRequestField {
+
+    /**
+     * The source branch name, known from the head itself.
+     */
+    SOURCE("source", 1) {
+        @Override
+        String get(BitbucketPullRequest pullRequest) {
+            BitbucketPullRequestSource source = pullRequest.getSource();
+            return source != null ? branchName(source.getBranch()) : null;
+        }
+
+        @Override
+        String get(PullRequestSCMHead head) {
+            return head.getBranchName();
+        }
+    },
+
+    /**
+     * The target branch name, known from the head itself.
+     */
+    TARGET("target", 1) {
+        @Override
+        String get(BitbucketPullRequest pullRequest) {
+            BitbucketPullRequestDestination destination = pullRequest.getDestination();
+            return destination != null ? branchName(destination.getBranch()) : null;
+        }
+
+        @Override
+        String get(PullRequestSCMHead head) {
+            SCMHead target = head.getTarget();
+            return target != null ? target.getName() : null;
+        }
+    },
+
+    /**
+     * The title, usually listed but longer than a branch name and fetched when the list lacks it.
+     */
+    TITLE("title", 4) {
+        @Override
+        String get(BitbucketPullRequest pullRequest) {
+            return pullRequest.getTitle();
+        }
+
+        @Override
+        String get(PullRequestSCMHead head) {
+            return head.getTitle();
+        }
+    };
+
+    private final String keyword;
+    private final int cost;
+
+    PullRequestField(String keyword, int cost) {
+        this.keyword = keyword;
+        this.cost = cost;
+    }
+
+    /**
+     * Return the name of the field in expressions.
+     *
+     * @return the keyword
+     */
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Return the relative cost of evaluating the field, conditions on cheaper fields are evaluated first.
+     *
+     * @return the cost
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Extracts the field from a pull request.
+     *
+     * @param pullRequest the pull request
+     * @return the value, {@code null} if the pull request does not carry it
+     */
+    abstract String get(BitbucketPullRequest pullRequest);
+
+    /**
+     * Extracts the field from a head.
+     *
+     * @param head the head
+     * @return the value, {@code null} if the head does not carry it
+     */
+    abstract String get(PullRequestSCMHead head);
+
+    /**
+     * Looks up a field by its keyword.
+     *
+     * @param keyword the keyword
+     * @return the field, {@code null} if there is none
+     */
+    static PullRequestField forKeyword(String keyword) {
+        for (PullRequestField field : values()) {
+            if (field.keyword.equals(keyword)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static String branchName(BitbucketBranch branch) {
+        return branch != null ? branch.getName() : null;
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * The values of the fields of a pull request or of a head, evaluated by a {@link PullRequestExpression}.
+ *
+ * <p>Values are extracted on first use, so fields the expression never reaches are never read.</p>
+ *
+ * @since 0.3.0
+ */
+public final class PullRequestFields {
+
+    private static final PullRequestField[] FIELDS = PullRequestField.values();
+
+    private final BitbucketPullRequest pullRequest;
+    private final PullRequestSCMHead head;
+    private final String[] values = new String[FIELDS.length];
+    private final boolean[] extracted = new boolean[FIELDS.length];
+
+    private PullRequestFields(BitbucketPullRequest pullRequest, PullRequestSCMHead head) {
+        this.pullRequest = pullRequest;
+        this.head = head;
+    }
+
+    /**
+     * Return the fields of a pull request.
+     *
+     * @param pullRequest the pull request
+     * @return the fields
+     */
+    public static PullRequestFields of(BitbucketPullRequest pullRequest) {
+        return new PullRequestFields(pullRequest, null);
+    }
+
+    /**
+     * Return the fields of a head.
+     *
+     * @param head the head
+     * @return the fields
+     */
+    public static PullRequestFields of(PullRequestSCMHead head) {
+        return new PullRequestFields(null, head);
+    }
+
+    /**
+     * Return fields with the given values, to evaluate a sample pull request.
+     *
+     * @param values the values, missing fields are {@code null}
+     * @return the fields
+     */
+    public static PullRequestFields of(Map<PullRequestField, String> values) {
+        PullRequestFields fields = new PullRequestFields(null, null);
+        for (PullRequestField field : FIELDS) {
+            fields.values[field.ordinal()] = values.get(field);
+            fields.extracted[field.ordinal()] = true;
+        }
+        return fields;
+    }
+
+    /**
+     * Return the value of a field.
+     *
+     * @param field the field
+     * @return the value, {@code null} if the pull request or the head does not carry it
+     */
+    public String get(PullRequestField field) {
+        int index = field.ordinal();
+        if (!extracted[index]) {
+            values[index] = pullRequest != null ? field.get(pullRequest) : field.get(head);
+            extracted[index] = true;
+        }
+        return values[index];
+    }
+
+    /**
+     * Lists the values of all the fields, equal fields have equal descriptions.
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (PullRequestField field : FIELDS) {
+            joiner.add(field.getKeyword() + "=" + get(field));
+        }
+        return joiner.toString();
+    }
+
+}
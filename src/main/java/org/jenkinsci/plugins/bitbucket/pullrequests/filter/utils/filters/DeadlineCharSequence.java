@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A {@link CharSequence} view that aborts a regular expression evaluation once its deadline passes or the evaluating
+ * thread is interrupted. The checks run every {@value #CHECK_INTERVAL} character reads, so a well-behaved pattern
+ * pays almost nothing while a catastrophically backtracking one is stopped within its budget.
+ *
+ * <p>An instance counts its reads without synchronization and belongs to a single evaluation on a single thread.</p>
+ *
+ * @since 0.3.0
+ */
+public final class DeadlineCharSequence implements CharSequence {
+
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence delegate;
+    private final long deadlineNanos;
+    private final String pattern;
+
+    private int reads;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate      the evaluated text
+     * @param deadlineNanos the {@link System#nanoTime()} after which the evaluation is aborted
+     * @param pattern       the evaluated pattern, reported when the deadline passes
+     */
+    public DeadlineCharSequence(@Nonnull CharSequence delegate, long deadlineNanos, String pattern) {
+        this.delegate = delegate;
+        this.deadlineNanos = deadlineNanos;
+        this.pattern = pattern;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RegexTimeoutException if the deadline passed or the thread was interrupted
+     */
+    @Override
+    public char charAt(int index) {
+        if ((++reads & (CHECK_INTERVAL - 1)) == 0) {
+            checkDeadline();
+        }
+        return delegate.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return delegate.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new DeadlineCharSequence(delegate.subSequence(start, end), deadlineNanos, pattern);
+    }
+
+    @Nonnull
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private void checkDeadline() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new RegexTimeoutException(pattern, true);
+        }
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new RegexTimeoutException(pattern, false);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A {@link TypeFilter} accepting the identities, such as user logins, e-mails, account ids or branch names, of a set.
+ *
+ * <p>The identities are compared ignoring the case unless told otherwise and compiled into a hash set, so a lookup costs the same with a
+ * handful or with thousands of identities. Instances are immutable.</p>
+ *
+ * @since 0.3.0
+ */
+public class IdentitySetFilter implements TypeFilter<String> {
+
+    private static final String IDENTITIES_SEPARATOR = ",;\n\r";
+
+    private final Set<String> identities;
+    private final boolean ignoreCase;
+    private final String description;
+
+    /**
+     * Constructor.
+     *
+     * @param identities the identities, separated by ',', ';' or new lines
+     */
+    public IdentitySetFilter(String identities) {
+        this(identities, true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param identities the identities, separated by ',', ';' or new lines
+     * @param ignoreCase {@code true} to compare the identities ignoring the case
+     */
+    public IdentitySetFilter(String identities, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        Set<String> set = new HashSet<>();
+        for (String identity : StringUtils.split(StringUtils.trimToEmpty(identities), IDENTITIES_SEPARATOR)) {
+            String normalized = normalize(identity.trim());
+            if (!normalized.isEmpty()) {
+                set.add(normalized);
+            }
+        }
+        this.identities = Collections.unmodifiableSet(set);
+        this.description = describe(set) + (ignoreCase ? "" : "(case sensitive)");
+    }
+
+    @Override
+    public boolean canFilter() {
+        return !identities.isEmpty();
+    }
+
+    @Override
+    public boolean accepted(String data) {
+        if (!canFilter()) {
+            return true;
+        }
+
+        return data != null && identities.contains(normalize(data));
+    }
+
+    /**
+     * Validates any of the identities of a single subject, such as the login and the e-mail of a user.
+     *
+     * @param data the identities, {@code null} elements are skipped
+     * @return {@code true} if any of the identities is accepted
+     */
+    public boolean acceptedAny(Iterable<String> data) {
+        if (!canFilter()) {
+            return true;
+        }
+
+        for (String identity : data) {
+            if (identity != null && identities.contains(normalize(identity))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Set<String> getIdentities() {
+        return identities;
+    }
+
+    /**
+     * Describes the set by its size and a hash of its content, equal filters have equal descriptions which stay short
+     * for large sets.
+     */
+    @Override
+    public String toString() {
+        return description;
+    }
+
+    private String normalize(String identity) {
+        return ignoreCase ? identity.toLowerCase(Locale.ROOT) : identity;
+    }
+
+    private static String describe(Set<String> identities) {
+        List<String> sorted = new ArrayList<>(identities);
+        Collections.sort(sorted);
+        long hash = 0xcbf29ce484222325L;
+        for (String identity : sorted) {
+            for (byte b : identity.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= '\n';
+            hash *= 0x100000001b3L;
+        }
+        return "IdentitySetFilter[" + sorted.size() + ":" + Long.toHexString(hash) + "]";
+    }
+
+}
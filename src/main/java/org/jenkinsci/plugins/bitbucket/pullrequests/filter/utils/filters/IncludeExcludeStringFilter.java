@@ -0,0 +1,264 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link StringFilter} accepting strings which match any of the include patterns but none of the exclude patterns.
+ * An empty include list accepts every string which is not excluded.
+ *
+ * <p>Both lists are compiled into a single pattern with an alternation per list, the exclude alternatives first, so a
+ * single {@link Matcher#matches()} decides the verdict: the named group of the matched alternative tells whether the
+ * string was excluded or included. Patterns which cannot be embedded into another pattern (back references,
+ * unterminated quotes or flags without an inline form) are evaluated one by one instead.</p>
+ *
+ * @since 0.3.0
+ */
+public class IncludeExcludeStringFilter extends StringFilter {
+
+    private static final String EXCLUDED_GROUP = "bbprfExcluded";
+
+    private static final String INCLUDED_GROUP = "bbprfIncluded";
+
+    private static final int INLINE_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL
+            | Pattern.MULTILINE | Pattern.UNIX_LINES;
+
+    private final Collection<Pattern> excludePatterns;
+    private final Pattern combined;
+
+    /**
+     * Constructor.
+     *
+     * @param include the filter of the accepted strings, {@code null} or an empty filter accepts every string
+     * @param exclude the filter of the rejected strings, {@code null} or an empty filter rejects no string
+     */
+    public IncludeExcludeStringFilter(StringFilter include, StringFilter exclude) {
+        this(include != null ? include.getPatterns() : null, exclude != null ? exclude.getPatterns() : null,
+                DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param includePatterns the patterns of the accepted strings, empty accepts every string
+     * @param excludePatterns the patterns of the rejected strings
+     * @param timeoutMillis   the time budget of a single pattern evaluation, {@code 0} disables the guard
+     */
+    public IncludeExcludeStringFilter(Collection<Pattern> includePatterns, Collection<Pattern> excludePatterns,
+                                      long timeoutMillis) {
+        super(includePatterns, timeoutMillis);
+        this.excludePatterns = excludePatterns != null
+                ? Collections.unmodifiableList(new ArrayList<>(excludePatterns)) : Collections.emptyList();
+        this.combined = combine(getPatterns(), this.excludePatterns);
+    }
+
+    @Override
+    public boolean canFilter() {
+        return !getPatterns().isEmpty() || !excludePatterns.isEmpty();
+    }
+
+    @Override
+    public boolean accepted(String data) {
+        if (!canFilter()) {
+            return true;
+        }
+
+        if (data == null) {
+            return false;
+        }
+
+        if (combined != null) {
+            return accepted(combined.matcher(guard(data, combined)));
+        }
+
+        for (Pattern pattern : excludePatterns) {
+            if (pattern.matcher(guard(data, pattern)).matches()) {
+                return false;
+            }
+        }
+        return getPatterns().isEmpty() || super.accepted(data);
+    }
+
+    /**
+     * Validates a batch of data with a single {@link Matcher} of the combined pattern.
+     *
+     * @param data the data to validate
+     * @return the verdicts, in the order of the data
+     */
+    @Override
+    public boolean[] acceptedAll(List<? extends String> data) {
+        boolean[] accepted = new boolean[data.size()];
+        if (combined == null) {
+            for (int i = 0; i < accepted.length; i++) {
+                accepted[i] = accepted(data.get(i));
+            }
+            return accepted;
+        }
+
+        Matcher matcher = null;
+        for (int i = 0; i < accepted.length; i++) {
+            String value = data.get(i);
+            if (value == null) {
+                continue;
+            }
+            CharSequence input = guard(value, combined);
+            if (matcher == null) {
+                matcher = combined.matcher(input);
+            } else {
+                matcher.reset(input);
+            }
+            accepted[i] = accepted(matcher);
+        }
+        return accepted;
+    }
+
+    private static boolean accepted(Matcher matcher) {
+        return matcher.matches() && matcher.start(EXCLUDED_GROUP) == -1;
+    }
+
+    public Collection<Pattern> getExcludePatterns() {
+        return excludePatterns;
+    }
+
+    /**
+     * Whether both lists are decided by a single pattern.
+     *
+     * @return {@code true} if the patterns were combined
+     */
+    public boolean isCombined() {
+        return combined != null;
+    }
+
+    /**
+     * Describes the patterns, equal filters have equal descriptions.
+     */
+    @Override
+    public String toString() {
+        return describe(getPatterns()) + " - " + describe(excludePatterns);
+    }
+
+    private static String describe(Collection<Pattern> patterns) {
+        return patterns.stream()
+                .map(pattern -> pattern.flags() + ":" + pattern.pattern())
+                .collect(Collectors.joining(", ", "StringFilter[", "]"));
+    }
+
+    /**
+     * Compiles the patterns into {@code (?<excluded>e1|e2)|(?<included>i1|i2)}, each alternative keeping its own flags
+     * as an inline flag group.
+     *
+     * @return the combined pattern or {@code null} if any pattern cannot be embedded
+     */
+    static Pattern combine(Collection<Pattern> includePatterns, Collection<Pattern> excludePatterns) {
+        if (excludePatterns.isEmpty() && includePatterns.isEmpty()) {
+            return null;
+        }
+        StringBuilder regex = new StringBuilder();
+        if (!excludePatterns.isEmpty()) {
+            if (!appendGroup(regex, EXCLUDED_GROUP, excludePatterns)) {
+                return null;
+            }
+            regex.append('|');
+        }
+        if (includePatterns.isEmpty()) {
+            regex.append("(?<").append(INCLUDED_GROUP).append(">(?s:.*))");
+        } else if (!appendGroup(regex, INCLUDED_GROUP, includePatterns)) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regex.toString());
+        } catch (PatternSyntaxException e) {
+            // a named group of the patterns clashes with another one
+            return null;
+        }
+    }
+
+    private static boolean appendGroup(StringBuilder regex, String name, Collection<Pattern> patterns) {
+        regex.append("(?<").append(name).append('>');
+        String separator = "";
+        for (Pattern pattern : patterns) {
+            if ((pattern.flags() & ~INLINE_FLAGS) != 0 || !isEmbeddable(pattern.pattern())) {
+                return false;
+            }
+            regex.append(separator).append("(?").append(inlineFlags(pattern.flags())).append(':')
+                    .append(pattern.pattern()).append(')');
+            separator = "|";
+        }
+        regex.append(')');
+        return true;
+    }
+
+    private static String inlineFlags(int flags) {
+        StringBuilder inline = new StringBuilder();
+        if ((flags & Pattern.CASE_INSENSITIVE) != 0) {
+            inline.append('i');
+        }
+        if ((flags & Pattern.UNICODE_CASE) != 0) {
+            inline.append('u');
+        }
+        if ((flags & Pattern.DOTALL) != 0) {
+            inline.append('s');
+        }
+        if ((flags & Pattern.MULTILINE) != 0) {
+            inline.append('m');
+        }
+        if ((flags & Pattern.UNIX_LINES) != 0) {
+            inline.append('d');
+        }
+        return inline.toString();
+    }
+
+    /**
+     * Rejects back references, which would point at other groups once embedded, and quotes running to the end of the
+     * pattern, which would swallow the rest of the combined pattern.
+     */
+    static boolean isEmbeddable(String regex) {
+        for (int i = 0; i < regex.length() - 1; i++) {
+            if (regex.charAt(i) != '\\') {
+                continue;
+            }
+            char next = regex.charAt(++i);
+            if ((next >= '1' && next <= '9') || next == 'k') {
+                return false;
+            }
+            if (next == 'Q') {
+                int end = regex.indexOf("\\E", i + 1);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 1;
+            }
+        }
+        return true;
+    }
+
+}
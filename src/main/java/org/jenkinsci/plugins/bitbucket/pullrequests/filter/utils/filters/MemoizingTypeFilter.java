@@ -0,0 +1,119 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link TypeFilter} remembering the verdicts of another filter, for data which repeats heavily such as the names of
+ * the target branches.
+ *
+ * <p>The memory is bounded: once it holds {@code capacity} verdicts, an arbitrary verdict is evicted for each new one.
+ * Evaluations aborted by a {@link RegexTimeoutException} and {@code null} data are never remembered. The filter is
+ * safe for concurrent use if the wrapped filter is.</p>
+ *
+ * @param <T> data type to validation
+ * @since 0.3.0
+ */
+public class MemoizingTypeFilter<T> implements TypeFilter<T> {
+
+    /**
+     * The default number of remembered verdicts.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final TypeFilter<T> filter;
+    private final int capacity;
+    private final Map<T, Boolean> verdicts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param filter   the filter to remember the verdicts of
+     * @param capacity the maximum number of remembered verdicts
+     */
+    public MemoizingTypeFilter(TypeFilter<T> filter, int capacity) {
+        this.filter = filter;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * Wraps the filter with the default capacity.
+     *
+     * @param filter the filter to remember the verdicts of, may be {@code null}
+     * @param <T>    data type to validation
+     * @return the memoizing filter, {@code null} if the filter is {@code null}
+     */
+    public static <T> TypeFilter<T> of(TypeFilter<T> filter) {
+        return filter != null ? new MemoizingTypeFilter<>(filter, DEFAULT_CAPACITY) : null;
+    }
+
+    @Override
+    public boolean canFilter() {
+        return filter.canFilter();
+    }
+
+    @Override
+    public boolean accepted(T data) {
+        if (data == null) {
+            return filter.accepted(null);
+        }
+
+        Boolean verdict = verdicts.get(data);
+        if (verdict != null) {
+            return verdict;
+        }
+
+        boolean accepted = filter.accepted(data);
+        if (verdicts.size() >= capacity) {
+            Iterator<T> iterator = verdicts.keySet().iterator();
+            if (iterator.hasNext()) {
+                verdicts.remove(iterator.next());
+            }
+        }
+        verdicts.put(data, accepted);
+        return accepted;
+    }
+
+    public TypeFilter<T> getFilter() {
+        return filter;
+    }
+
+    /**
+     * Return the number of remembered verdicts.
+     *
+     * @return the number of remembered verdicts
+     */
+    public int size() {
+        return verdicts.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(filter);
+    }
+
+}
@@ -0,0 +1,680 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Estimates the worst-case cost of a regular expression before it reaches the scans.
+ *
+ * <p>The static part inspects the expression for constructs that make a backtracking matcher blow up: nested
+ * unbounded quantifiers, overlapping alternatives under an unbounded quantifier, bounded repetitions of unbounded
+ * groups and long chains of unbounded wildcards such as an unanchored leading {@code .*}. The dynamic part matches the
+ * compiled pattern against a few adversarial inputs built from the characters of the expression, each within a
+ * small time budget.</p>
+ *
+ * @since 0.3.0
+ */
+public final class RegexComplexityAnalyzer {
+
+    /**
+     * The length of a typical long title or branch name, used to express the estimated cost.
+     */
+    static final int REFERENCE_LENGTH = 256;
+
+    /**
+     * The number of unbounded wildcards in a sequence from which the polynomial cost is reported.
+     */
+    static final int POLYNOMIAL_DEGREE_THRESHOLD = 3;
+
+    private static final int ADVERSARIAL_LENGTH = 48;
+    private static final int ADVERSARIAL_INPUTS = 8;
+    private static final long BENCHMARK_BUDGET_MILLIS = 50;
+    private static final int MAX_REPETITION_DEGREE = 64;
+
+    private RegexComplexityAnalyzer() {
+    }
+
+    /**
+     * Analyzes the expression.
+     *
+     * @param regex the regular expression
+     * @param flags the {@link Pattern} flags the expression is compiled with
+     * @return the report of the analysis
+     * @throws PatternSyntaxException if the expression does not compile
+     */
+    @Nonnull
+    public static Report analyze(String regex, int flags) {
+        Pattern pattern = Pattern.compile(regex, flags);
+        Report report = new Report();
+
+        Node root = new Parser(regex).parse();
+        inspect(root, regex, flags, report);
+        inspectSequence(root, regex, report);
+        benchmark(pattern, regex, report);
+
+        return report;
+    }
+
+    private static void inspect(Node node, String regex, int flags, Report report) {
+        if (node.kind == Kind.QUANTIFIER && node.isUnbounded() && !node.possessive) {
+            Node body = unwrap(node.children.get(0));
+            if (containsUnbounded(body) && !isDelimited(body, regex, flags)) {
+                report.add(Complexity.EXPONENTIAL, 0,
+                        "nested quantifiers in '" + node.text(regex) + "'");
+            } else if (body.kind == Kind.ALTERNATION && hasOverlappingBranches(body, regex, flags)) {
+                report.add(Complexity.EXPONENTIAL, 0,
+                        "overlapping alternatives repeated in '" + node.text(regex) + "'");
+            }
+        } else if (node.kind == Kind.QUANTIFIER && !node.possessive && Math.max(node.min, node.max) >= 2
+                && containsUnbounded(node.children.get(0))) {
+            int degree = Math.min(Math.max(node.min, node.max), MAX_REPETITION_DEGREE);
+            report.add(Complexity.POLYNOMIAL, degree,
+                    "the unbounded group repeated " + degree + " times in '" + node.text(regex) + "'");
+        }
+
+        if (node.kind == Kind.GROUP && node.atomic) {
+            return;
+        }
+        for (Node child : node.children) {
+            inspect(child, regex, flags, report);
+        }
+    }
+
+    private static void inspectSequence(Node root, String regex, Report report) {
+        Node sequence = unwrap(root);
+        if (sequence.kind != Kind.SEQUENCE) {
+            return;
+        }
+
+        int degree = 0;
+        boolean leadingWildcard = false;
+        for (Node item : sequence.children) {
+            if (item.kind == Kind.QUANTIFIER && item.isUnbounded() && !item.possessive && isBroad(unwrap(item.children.get(0)))) {
+                leadingWildcard |= degree == 0 && item == sequence.children.get(0);
+                degree++;
+            }
+        }
+
+        if (degree >= POLYNOMIAL_DEGREE_THRESHOLD) {
+            String finding = leadingWildcard
+                    ? "an unanchored leading '" + sequence.children.get(0).text(regex) + "' followed by " + (degree - 1) + " more unbounded wildcards"
+                    : degree + " unbounded wildcards in sequence";
+            report.add(Complexity.POLYNOMIAL, degree, finding);
+        }
+    }
+
+    private static void benchmark(Pattern pattern, String regex, Report report) {
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(BENCHMARK_BUDGET_MILLIS);
+        long start = System.nanoTime();
+        for (String input : adversarialInputs(regex)) {
+            long inputStart = System.nanoTime();
+            try {
+                pattern.matcher(new DeadlineCharSequence(input, inputStart + budgetNanos, regex)).matches();
+            } catch (RegexTimeoutException e) {
+                if (e.isInterrupted()) {
+                    break;
+                }
+                report.add(Complexity.POLYNOMIAL, 0, "the match took more than " + BENCHMARK_BUDGET_MILLIS
+                        + " ms on the " + input.length() + " characters long input '" + abbreviate(input) + "'");
+                report.benchmarkExceeded = true;
+                break;
+            }
+        }
+        report.benchmarkNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Builds inputs which repeat a single character of the expression and end with one the expression is unlikely to
+     * accept, forcing a backtracking matcher through all the ways to split the repeated part.
+     */
+    static List<String> adversarialInputs(String regex) {
+        Set<Character> candidates = new LinkedHashSet<>();
+        for (int i = 0; i < regex.length() && candidates.size() < ADVERSARIAL_INPUTS - 3; i++) {
+            char c = regex.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                candidates.add(c);
+            }
+        }
+        candidates.add('a');
+        candidates.add('0');
+        candidates.add(' ');
+
+        List<String> inputs = new ArrayList<>();
+        for (char c : candidates) {
+            StringBuilder input = new StringBuilder(ADVERSARIAL_LENGTH + 1);
+            for (int i = 0; i < ADVERSARIAL_LENGTH; i++) {
+                input.append(c);
+            }
+            inputs.add(input.append('\u0001').toString());
+        }
+        return inputs;
+    }
+
+    private static boolean containsUnbounded(Node node) {
+        if (node.kind == Kind.GROUP && node.atomic) {
+            return false;
+        }
+        if (node.kind == Kind.QUANTIFIER && node.isUnbounded() && !node.possessive) {
+            return true;
+        }
+        for (Node child : node.children) {
+            if (containsUnbounded(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks every repetition of the body has to match a character its unbounded parts cannot consume, like the
+     * {@code -} in {@code (-[a-z]+)*}, so the repetitions cannot be split in more than one way.
+     */
+    private static boolean isDelimited(Node body, String regex, int flags) {
+        if (body.kind != Kind.SEQUENCE) {
+            return false;
+        }
+        List<Node> unbounded = new ArrayList<>();
+        collectUnbounded(body, unbounded);
+        for (Node item : body.children) {
+            if (item.kind != Kind.LITERAL) {
+                continue;
+            }
+            boolean consumed = false;
+            for (Node quantifier : unbounded) {
+                consumed |= overlaps(firstAtom(quantifier), item, regex, flags);
+            }
+            if (!consumed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void collectUnbounded(Node node, List<Node> result) {
+        if (node.kind == Kind.QUANTIFIER && node.isUnbounded() && !node.possessive) {
+            result.add(node);
+        }
+        for (Node child : node.children) {
+            collectUnbounded(child, result);
+        }
+    }
+
+    private static boolean hasOverlappingBranches(Node alternation, String regex, int flags) {
+        List<Node> branches = alternation.children;
+        for (int i = 0; i < branches.size(); i++) {
+            for (int j = i + 1; j < branches.size(); j++) {
+                Node left = branches.get(i);
+                Node right = branches.get(j);
+                if (left.text(regex).equals(right.text(regex)) || overlaps(firstAtom(left), firstAtom(right), regex, flags)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(Node left, Node right, String regex, int flags) {
+        if (left == null || right == null) {
+            return false;
+        }
+        if (left.kind == Kind.LITERAL && right.kind == Kind.LITERAL) {
+            return (flags & Pattern.CASE_INSENSITIVE) != 0
+                    ? Character.toLowerCase(left.literal) == Character.toLowerCase(right.literal)
+                    : left.literal == right.literal;
+        }
+        if (left.kind == Kind.LITERAL || right.kind == Kind.LITERAL) {
+            Node literal = left.kind == Kind.LITERAL ? left : right;
+            Node other = left.kind == Kind.LITERAL ? right : left;
+            return other.kind == Kind.DOT || matchesCharacter(other.text(regex), literal.literal, flags);
+        }
+        return true;
+    }
+
+    private static boolean matchesCharacter(String characterClass, char c, int flags) {
+        try {
+            return Pattern.compile(characterClass, flags).matcher(String.valueOf(c)).matches();
+        } catch (PatternSyntaxException e) {
+            return true;
+        }
+    }
+
+    private static Node firstAtom(Node node) {
+        switch (node.kind) {
+            case LITERAL:
+            case CLASS:
+            case DOT:
+                return node;
+            case SEQUENCE:
+                for (Node child : node.children) {
+                    if (child.kind != Kind.ANCHOR) {
+                        return firstAtom(child);
+                    }
+                }
+                return null;
+            case GROUP:
+            case QUANTIFIER:
+                return node.children.isEmpty() ? null : firstAtom(node.children.get(0));
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isBroad(Node node) {
+        return node.kind == Kind.DOT || node.kind == Kind.CLASS;
+    }
+
+    private static Node unwrap(Node node) {
+        Node result = node;
+        while ((result.kind == Kind.GROUP && !result.atomic && !result.lookaround || result.kind == Kind.SEQUENCE)
+                && result.children.size() == 1) {
+            result = result.children.get(0);
+        }
+        return result;
+    }
+
+    private static String abbreviate(String input) {
+        String printable = input.replace("\u0001", "\\u0001");
+        return printable.length() > 16 ? printable.substring(0, 6) + "..." + printable.substring(printable.length() - 8) : printable;
+    }
+
+    /**
+     * The class of the estimated worst-case cost on a value of length {@code n}.
+     */
+    public enum Complexity {
+        LINEAR, POLYNOMIAL, EXPONENTIAL
+    }
+
+    /**
+     * The result of the analysis.
+     */
+    public static final class Report {
+
+        private final List<String> findings = new ArrayList<>();
+        private Complexity complexity = Complexity.LINEAR;
+        private int degree = 1;
+        private boolean benchmarkExceeded;
+        private long benchmarkNanos;
+
+        private void add(Complexity complexity, int degree, String finding) {
+            findings.add(finding);
+            if (complexity.compareTo(this.complexity) > 0) {
+                this.complexity = complexity;
+            }
+            this.degree = Math.max(this.degree, degree);
+        }
+
+        public List<String> getFindings() {
+            return Collections.unmodifiableList(findings);
+        }
+
+        public Complexity getComplexity() {
+            return complexity;
+        }
+
+        public boolean isBenchmarkExceeded() {
+            return benchmarkExceeded;
+        }
+
+        public long getBenchmarkNanos() {
+            return benchmarkNanos;
+        }
+
+        public boolean hasWarnings() {
+            return !findings.isEmpty();
+        }
+
+        /**
+         * Returns the estimated worst-case cost, for example {@code O(2^n)}.
+         *
+         * @return the estimated cost
+         */
+        public String getEstimatedCost() {
+            switch (complexity) {
+                case EXPONENTIAL:
+                    return "O(2^n)";
+                case POLYNOMIAL:
+                    return degree > 1 ? "O(n^" + degree + ")" : "super-linear";
+                default:
+                    return "O(n)";
+            }
+        }
+
+        /**
+         * Returns the estimated number of matcher steps on a {@value #REFERENCE_LENGTH} characters long value.
+         *
+         * @return the order of magnitude of the steps, for example {@code 10^77}
+         */
+        public String getEstimatedSteps() {
+            double log10;
+            switch (complexity) {
+                case EXPONENTIAL:
+                    log10 = REFERENCE_LENGTH * Math.log10(2);
+                    break;
+                case POLYNOMIAL:
+                    log10 = degree * Math.log10(REFERENCE_LENGTH);
+                    break;
+                default:
+                    log10 = Math.log10(REFERENCE_LENGTH);
+            }
+            return "10^" + (long) Math.ceil(log10);
+        }
+
+        /**
+         * Returns a message describing the findings for the user.
+         *
+         * @return the message, empty if nothing was found
+         */
+        public String getSummary() {
+            if (findings.isEmpty()) {
+                return "";
+            }
+            return String.format(Locale.ROOT, "Performance warning: %s. Estimated worst case %s, about %s steps for a %d characters long value.",
+                    String.join("; ", findings), getEstimatedCost(), getEstimatedSteps(), REFERENCE_LENGTH);
+        }
+    }
+
+    private enum Kind {
+        SEQUENCE, ALTERNATION, GROUP, QUANTIFIER, LITERAL, CLASS, DOT, ANCHOR
+    }
+
+    private static final class Node {
+
+        private final Kind kind;
+        private final int start;
+        private final List<Node> children = new ArrayList<>();
+        private int end;
+        private char literal;
+        private int min;
+        private int max;
+        private boolean possessive;
+        private boolean atomic;
+        private boolean lookaround;
+
+        private Node(Kind kind, int start) {
+            this.kind = kind;
+            this.start = start;
+        }
+
+        private boolean isUnbounded() {
+            return max < 0;
+        }
+
+        private String text(String regex) {
+            return regex.substring(start, Math.min(end, regex.length()));
+        }
+    }
+
+    /**
+     * A lenient recursive descent parser of the {@link Pattern} syntax. The expression already compiled, so the parser
+     * only needs to recover the structure, not to validate it.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int pos;
+
+        private Parser(String regex) {
+            this.regex = regex;
+        }
+
+        private Node parse() {
+            Node root = parseAlternation();
+            while (pos < regex.length()) {
+                // an unbalanced ')' cannot compile, skip it defensively
+                pos++;
+                root = parseAlternation();
+            }
+            return root;
+        }
+
+        private Node parseAlternation() {
+            int start = pos;
+            Node first = parseSequence();
+            if (pos >= regex.length() || regex.charAt(pos) != '|') {
+                return first;
+            }
+            Node alternation = new Node(Kind.ALTERNATION, start);
+            alternation.children.add(first);
+            while (pos < regex.length() && regex.charAt(pos) == '|') {
+                pos++;
+                alternation.children.add(parseSequence());
+            }
+            alternation.end = pos;
+            return alternation;
+        }
+
+        private Node parseSequence() {
+            Node sequence = new Node(Kind.SEQUENCE, pos);
+            while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+                Node atom = parseAtom();
+                if (atom != null) {
+                    sequence.children.add(parseQuantifier(atom));
+                }
+            }
+            sequence.end = pos;
+            return sequence;
+        }
+
+        private Node parseAtom() {
+            int start = pos;
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case '(':
+                    return parseGroup(start);
+                case '[':
+                    skipClass();
+                    return node(Kind.CLASS, start);
+                case '\\':
+                    return parseEscape(start);
+                case '.':
+                    return node(Kind.DOT, start);
+                case '^':
+                case '$':
+                    return node(Kind.ANCHOR, start);
+                default:
+                    Node literal = node(Kind.LITERAL, start);
+                    literal.literal = c;
+                    return literal;
+            }
+        }
+
+        private Node parseGroup(int start) {
+            Node group = new Node(Kind.GROUP, start);
+            if (regex.startsWith("?", pos)) {
+                if (regex.startsWith("?:", pos)) {
+                    pos += 2;
+                } else if (regex.startsWith("?>", pos)) {
+                    group.atomic = true;
+                    pos += 2;
+                } else if (regex.startsWith("?=", pos) || regex.startsWith("?!", pos)) {
+                    group.lookaround = true;
+                    pos += 2;
+                } else if (regex.startsWith("?<=", pos) || regex.startsWith("?<!", pos)) {
+                    group.lookaround = true;
+                    pos += 3;
+                } else if (regex.startsWith("?<", pos)) {
+                    pos = Math.max(pos, regex.indexOf('>', pos)) + 1;
+                } else {
+                    // inline flags, either (?i) alone or (?i:...)
+                    pos++;
+                    while (pos < regex.length() && (Character.isLetter(regex.charAt(pos)) || regex.charAt(pos) == '-')) {
+                        pos++;
+                    }
+                    if (pos < regex.length() && regex.charAt(pos) == ')') {
+                        pos++;
+                        return null;
+                    }
+                    pos++;
+                }
+            }
+            group.children.add(parseAlternation());
+            if (pos < regex.length() && regex.charAt(pos) == ')') {
+                pos++;
+            }
+            group.end = pos;
+            return group;
+        }
+
+        private Node parseEscape(int start) {
+            if (pos >= regex.length()) {
+                return node(Kind.LITERAL, start);
+            }
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case 'Q':
+                    int quoteEnd = regex.indexOf("\\E", pos);
+                    Node quoted = new Node(Kind.SEQUENCE, start);
+                    int contentEnd = quoteEnd < 0 ? regex.length() : quoteEnd;
+                    for (int i = pos; i < contentEnd; i++) {
+                        Node literal = new Node(Kind.LITERAL, i);
+                        literal.literal = regex.charAt(i);
+                        literal.end = i + 1;
+                        quoted.children.add(literal);
+                    }
+                    pos = quoteEnd < 0 ? regex.length() : quoteEnd + 2;
+                    quoted.end = pos;
+                    return quoted;
+                case 'd': case 'D': case 'w': case 'W': case 's': case 'S':
+                case 'h': case 'H': case 'v': case 'V': case 'R': case 'X':
+                    return node(Kind.CLASS, start);
+                case 'p': case 'P':
+                    if (pos < regex.length() && regex.charAt(pos) == '{') {
+                        pos = Math.max(pos, regex.indexOf('}', pos)) + 1;
+                    } else {
+                        pos++;
+                    }
+                    return node(Kind.CLASS, start);
+                case 'b': case 'B': case 'A': case 'z': case 'Z': case 'G':
+                    return node(Kind.ANCHOR, start);
+                case 'x':
+                    if (pos < regex.length() && regex.charAt(pos) == '{') {
+                        pos = Math.max(pos, regex.indexOf('}', pos)) + 1;
+                    } else {
+                        pos = Math.min(regex.length(), pos + 2);
+                    }
+                    return node(Kind.LITERAL, start);
+                case 'u':
+                    pos = Math.min(regex.length(), pos + 4);
+                    return node(Kind.LITERAL, start);
+                case 'c':
+                    pos = Math.min(regex.length(), pos + 1);
+                    return node(Kind.LITERAL, start);
+                default:
+                    if (Character.isDigit(c) || c == 'k') {
+                        // back references match what their group matched, treat them as a character class
+                        while (pos < regex.length() && (Character.isDigit(regex.charAt(pos)) || c == 'k' && regex.charAt(pos - 1) != '>')) {
+                            pos++;
+                        }
+                        return node(Kind.CLASS, start);
+                    }
+                    Node literal = node(Kind.LITERAL, start);
+                    literal.literal = c;
+                    return literal;
+            }
+        }
+
+        private void skipClass() {
+            int depth = 1;
+            if (pos < regex.length() && regex.charAt(pos) == '^') {
+                pos++;
+            }
+            if (pos < regex.length() && regex.charAt(pos) == ']') {
+                pos++;
+            }
+            while (pos < regex.length() && depth > 0) {
+                char c = regex.charAt(pos++);
+                if (c == '\\') {
+                    pos++;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    depth--;
+                }
+            }
+        }
+
+        private Node parseQuantifier(Node atom) {
+            if (pos >= regex.length()) {
+                return atom;
+            }
+            int min;
+            int max;
+            char c = regex.charAt(pos);
+            if (c == '*') {
+                min = 0;
+                max = -1;
+                pos++;
+            } else if (c == '+') {
+                min = 1;
+                max = -1;
+                pos++;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+                pos++;
+            } else if (c == '{' && regex.indexOf('}', pos) > pos) {
+                String[] bounds = regex.substring(pos + 1, regex.indexOf('}', pos)).split(",", -1);
+                try {
+                    min = Integer.parseInt(bounds[0].trim());
+                    max = bounds.length == 1 ? min : bounds[1].trim().isEmpty() ? -1 : Integer.parseInt(bounds[1].trim());
+                } catch (NumberFormatException e) {
+                    return atom;
+                }
+                pos = regex.indexOf('}', pos) + 1;
+            } else {
+                return atom;
+            }
+
+            Node quantifier = new Node(Kind.QUANTIFIER, atom.start);
+            quantifier.children.add(atom);
+            quantifier.min = min;
+            quantifier.max = max;
+            if (pos < regex.length() && regex.charAt(pos) == '+') {
+                quantifier.possessive = true;
+                pos++;
+            } else if (pos < regex.length() && regex.charAt(pos) == '?') {
+                pos++;
+            }
+            quantifier.end = pos;
+            return quantifier;
+        }
+
+        private Node node(Kind kind, int start) {
+            Node node = new Node(kind, start);
+            node.end = pos;
+            return node;
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+/**
+ * Thrown when a pattern evaluation exceeds its time budget or the evaluating thread is interrupted.
+ *
+ * @since 0.3.0
+ */
+public class RegexTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String pattern;
+    private final boolean interrupted;
+
+    /**
+     * Constructor.
+     *
+     * @param pattern     the aborted pattern
+     * @param interrupted {@code true} if the evaluation was aborted due to the thread interruption
+     */
+    public RegexTimeoutException(String pattern, boolean interrupted) {
+        super((interrupted ? "Interrupted evaluation of the pattern: " : "The pattern exceeded its time budget: ") + pattern);
+        this.pattern = pattern;
+        this.interrupted = interrupted;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    public boolean isInterrupted() {
+        return interrupted;
+    }
+
+}
@@ -0,0 +1,315 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import jenkins.util.SystemProperties;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A file of names, one per line, memory-mapped and looked up by binary search, so a list of tens of thousands of names
+ * costs neither heap nor a linear scan. Blank lines and lines starting with {@code #} are skipped. The lines should be
+ * sorted by their bytes, as {@code LC_ALL=C sort} does; unsorted files are sorted in memory when loaded.
+ *
+ * <p>The file is reloaded when its modification time or size changes, checked at most once per interval. A reload
+ * builds a new snapshot and publishes it at once, so lookups never see a partially loaded file. The file should be
+ * replaced by moving a complete file over it. Instances are shared by path across the controller and safe for
+ * concurrent use.</p>
+ *
+ * @since 0.3.0
+ */
+public final class SortedListFile {
+
+    private static final Logger LOGGER = Logger.getLogger(SortedListFile.class.getName());
+
+    /**
+     * The minimum time between two checks of the modification time, in milliseconds.
+     */
+    private static final long CHECK_INTERVAL_MILLIS = SystemProperties.getLong(
+            SortedListFile.class.getName() + ".checkIntervalMillis", 1000L);
+
+    private static final ConcurrentMap<Path, SortedListFile> FILES = new ConcurrentHashMap<>();
+
+    private final Path path;
+    private final long checkIntervalNanos;
+    private final Object reloadLock = new Object();
+
+    private volatile Snapshot snapshot;
+    private volatile long nextCheck;
+
+    SortedListFile(Path path, long checkIntervalMillis) {
+        this.path = path;
+        this.checkIntervalNanos = TimeUnit.MILLISECONDS.toNanos(checkIntervalMillis);
+    }
+
+    /**
+     * Return the shared instance of a file.
+     *
+     * @param path the path of the file
+     * @return the instance, whether the file exists or not
+     */
+    public static SortedListFile of(Path path) {
+        return FILES.computeIfAbsent(path.toAbsolutePath().normalize(), p -> new SortedListFile(p, CHECK_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Looks up a name.
+     *
+     * @param name the name
+     * @return {@code true} if the file lists the name
+     */
+    public boolean contains(String name) {
+        return name != null && current().contains(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tells if the file could be loaded.
+     *
+     * @return {@code true} if the file exists and is readable
+     */
+    public boolean exists() {
+        return current().modified >= 0;
+    }
+
+    /**
+     * Return the number of names.
+     *
+     * @return the number of names, {@code 0} if the file does not exist
+     */
+    public int size() {
+        return current().starts.length;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Identifies the loaded content by the modification time and the size of the file.
+     *
+     * @return the version, changed by every reload
+     */
+    public String getVersion() {
+        Snapshot current = current();
+        return current.modified + ":" + current.size;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || System.nanoTime() - nextCheck >= 0) {
+            current = reloadIfModified();
+        }
+        return current;
+    }
+
+    private Snapshot reloadIfModified() {
+        synchronized (reloadLock) {
+            Snapshot current = snapshot;
+            if (current != null && System.nanoTime() - nextCheck < 0) {
+                return current;
+            }
+            nextCheck = System.nanoTime() + checkIntervalNanos;
+
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                long modified = attributes.lastModifiedTime().toMillis();
+                if (current != null && current.modified == modified && current.size == attributes.size()) {
+                    return current;
+                }
+                current = Snapshot.load(path, modified, attributes.size());
+                LOGGER.log(Level.FINE, "Loaded {0} names from {1}", new Object[]{current.starts.length, path});
+            } catch (IOException e) {
+                if (current == null || current.modified >= 0) {
+                    if (e instanceof NoSuchFileException) {
+                        LOGGER.log(Level.WARNING, "The list {0} does not exist, it is handled as empty", path);
+                    } else {
+                        LOGGER.log(Level.SEVERE, "Cannot load the list " + path + ", it is handled as empty", e);
+                    }
+                }
+                current = Snapshot.MISSING;
+            }
+            snapshot = current;
+            return current;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SortedListFile[" + path + "@" + getVersion() + "]";
+    }
+
+    /**
+     * The names of the file at a given modification time, immutable once loaded.
+     */
+    private static final class Snapshot {
+
+        private static final Snapshot MISSING = new Snapshot(null, new int[0], new int[0], -1, -1);
+
+        private final MappedByteBuffer buffer;
+        private final int[] starts;
+        private final int[] ends;
+        private final long modified;
+        private final long size;
+
+        private Snapshot(MappedByteBuffer buffer, int[] starts, int[] ends, long modified, long size) {
+            this.buffer = buffer;
+            this.starts = starts;
+            this.ends = ends;
+            this.modified = modified;
+            this.size = size;
+        }
+
+        static Snapshot load(Path path, long modified, long size) throws IOException {
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("The list is larger than 2 GiB");
+            }
+
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            int[] starts = new int[64];
+            int[] ends = new int[64];
+            int count = 0;
+            int length = (int) size;
+            int lineStart = 0;
+            for (int i = 0; i <= length; i++) {
+                if (i < length && buffer.get(i) != '\n') {
+                    continue;
+                }
+                int start = lineStart;
+                int end = i;
+                lineStart = i + 1;
+                while (start < end && isBlank(buffer.get(start))) {
+                    start++;
+                }
+                while (end > start && isBlank(buffer.get(end - 1))) {
+                    end--;
+                }
+                if (start == end || buffer.get(start) == '#') {
+                    continue;
+                }
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+            }
+
+            Snapshot snapshot = new Snapshot(buffer, Arrays.copyOf(starts, count), Arrays.copyOf(ends, count), modified, size);
+            if (!snapshot.isSorted()) {
+                LOGGER.log(Level.WARNING, "The list {0} is not sorted, it is sorted in memory", path);
+                snapshot = snapshot.sorted();
+            }
+            return snapshot;
+        }
+
+        boolean contains(byte[] name) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(middle, name);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compares a line with a name by their unsigned bytes.
+         */
+        private int compare(int line, byte[] name) {
+            int start = starts[line];
+            int length = ends[line] - start;
+            int common = Math.min(length, name.length);
+            for (int i = 0; i < common; i++) {
+                int comparison = (buffer.get(start + i) & 0xff) - (name[i] & 0xff);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+            return length - name.length;
+        }
+
+        private int compareLines(int first, int second) {
+            byte[] line = new byte[ends[second] - starts[second]];
+            for (int i = 0; i < line.length; i++) {
+                line[i] = buffer.get(starts[second] + i);
+            }
+            return compare(first, line);
+        }
+
+        private boolean isSorted() {
+            for (int i = 1; i < starts.length; i++) {
+                if (compareLines(i - 1, i) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private Snapshot sorted() {
+            Integer[] order = new Integer[starts.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, this::compareLines);
+            int[] sortedStarts = new int[order.length];
+            int[] sortedEnds = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedStarts[i] = starts[order[i]];
+                sortedEnds[i] = ends[order[i]];
+            }
+            return new Snapshot(buffer, sortedStarts, sortedEnds, modified, size);
+        }
+
+        private static boolean isBlank(byte b) {
+            return b == ' ' || b == '\t' || b == '\r';
+        }
+    }
+
+}
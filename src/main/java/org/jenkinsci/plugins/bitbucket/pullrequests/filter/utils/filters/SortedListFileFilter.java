@@ -0,0 +1,100 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A {@link TypeFilter} accepting the names listed in any of a few {@link SortedListFile}s.
+ *
+ * <p>The names are compared by their bytes; ignoring the case, the data is looked up in lower case, so the files must
+ * list the names in lower case. The description changes with every reload of a file, so the verdicts reused for
+ * unchanged pull requests never outlive the content they were decided with.</p>
+ *
+ * @since 0.3.0
+ */
+public class SortedListFileFilter implements TypeFilter<String> {
+
+    private final List<SortedListFile> files;
+    private final boolean ignoreCase;
+
+    /**
+     * Constructor.
+     *
+     * @param files      the files
+     * @param ignoreCase {@code true} to look up the data in lower case
+     */
+    public SortedListFileFilter(List<SortedListFile> files, boolean ignoreCase) {
+        this.files = Collections.unmodifiableList(new ArrayList<>(files));
+        this.ignoreCase = ignoreCase;
+    }
+
+    /**
+     * Tells if any of the files exists, missing files are logged and handled as empty.
+     */
+    @Override
+    public boolean canFilter() {
+        for (SortedListFile file : files) {
+            if (file.exists()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean accepted(String data) {
+        if (!canFilter()) {
+            return true;
+        }
+        if (data == null) {
+            return false;
+        }
+
+        String name = ignoreCase ? data.toLowerCase(Locale.ROOT) : data;
+        for (SortedListFile file : files) {
+            if (file.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<SortedListFile> getFiles() {
+        return files;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder("SortedListFileFilter[");
+        for (SortedListFile file : files) {
+            description.append(file.getPath().getFileName()).append('@').append(file.getVersion()).append(' ');
+        }
+        return description.append(ignoreCase ? "]" : "(case sensitive)]").toString();
+    }
+
+}
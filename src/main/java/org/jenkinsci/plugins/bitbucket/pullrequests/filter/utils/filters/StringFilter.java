@@ -23,19 +23,36 @@
  */
 package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
 
+import jenkins.util.SystemProperties;
 import org.apache.commons.lang.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+/**
+ * A {@link TypeFilter} accepting strings which match any of the patterns.
+ *
+ * <p>Instances are immutable: the patterns are copied on construction and every evaluation uses its own
+ * {@link java.util.regex.Matcher}, so a single filter can be shared by any number of threads without locking.</p>
+ */
 public class StringFilter implements TypeFilter<String> {
 
     protected static final String PHRASES_SEPARATOR = ",;";
 
+    /**
+     * The time budget of a single pattern evaluation in milliseconds, {@code 0} disables the guard.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = SystemProperties.getLong(StringFilter.class.getName() + ".timeoutMillis", 1000L);
+
     private final Collection<Pattern> patterns;
+    private final long timeoutNanos;
 
     public StringFilter(String phrases) {
         this(phrases, true);
@@ -44,7 +61,8 @@ public class StringFilter implements TypeFilter<String> {
     public StringFilter(String phrases, boolean ignoreCase) {
         int regexFlags = ignoreCase ? Pattern.CASE_INSENSITIVE : 0;
         Collection<Pattern> patterns = transformPhrasesToPattern(transformPhraseToList(phrases), regexFlags);
-        this.patterns = Collections.unmodifiableCollection(patterns);
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(patterns));
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMEOUT_MILLIS);
     }
 
     public StringFilter(Pattern pattern) {
@@ -52,7 +70,19 @@ public class StringFilter implements TypeFilter<String> {
     }
 
     public StringFilter(Collection<Pattern> patterns) {
-        this.patterns = Collections.unmodifiableCollection(patterns != null ? patterns : Collections.emptyList());
+        this(patterns, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param patterns      the patterns to match, any of them accepts the data
+     * @param timeoutMillis the time budget of a single pattern evaluation, {@code 0} disables the guard
+     * @since 0.3.0
+     */
+    public StringFilter(Collection<Pattern> patterns, long timeoutMillis) {
+        this.patterns = patterns != null ? Collections.unmodifiableList(new ArrayList<>(patterns)) : Collections.emptyList();
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMillis));
     }
 
     @Override
@@ -70,13 +100,77 @@ public class StringFilter implements TypeFilter<String> {
             return false;
         }
 
-        return getPatterns().stream().anyMatch(pattern -> pattern.matcher(data).matches());
+        for (Pattern pattern : getPatterns()) {
+            if (pattern.matcher(guard(data, pattern)).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Validates a batch of data pattern after pattern, reusing one {@link Matcher} per pattern for the whole batch and
+     * skipping the data already accepted by a previous pattern.
+     *
+     * @param data the data to validate
+     * @return the verdicts, in the order of the data
+     */
+    @Override
+    public boolean[] acceptedAll(List<? extends String> data) {
+        boolean[] accepted = new boolean[data.size()];
+        if (!canFilter()) {
+            Arrays.fill(accepted, true);
+            return accepted;
+        }
+
+        for (Pattern pattern : getPatterns()) {
+            Matcher matcher = null;
+            for (int i = 0; i < accepted.length; i++) {
+                String value = data.get(i);
+                if (accepted[i] || value == null) {
+                    continue;
+                }
+                CharSequence input = guard(value, pattern);
+                if (matcher == null) {
+                    matcher = pattern.matcher(input);
+                } else {
+                    matcher.reset(input);
+                }
+                accepted[i] = matcher.matches();
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Wraps the data to abort the evaluation of the pattern once the time budget is exhausted.
+     *
+     * @param data    the evaluated data
+     * @param pattern the evaluated pattern
+     * @return the data to evaluate
+     * @throws RegexTimeoutException from the matcher if the budget is exhausted or the thread is interrupted
+     */
+    protected CharSequence guard(String data, Pattern pattern) {
+        if (timeoutNanos == 0) {
+            return data;
+        }
+        return new DeadlineCharSequence(data, System.nanoTime() + timeoutNanos, pattern.pattern());
     }
 
     public Collection<Pattern> getPatterns() {
         return patterns;
     }
 
+    /**
+     * Describes the patterns, equal filters have equal descriptions.
+     */
+    @Override
+    public String toString() {
+        return getPatterns().stream()
+                .map(pattern -> pattern.flags() + ":" + pattern.pattern())
+                .collect(Collectors.joining(", ", "StringFilter[", "]"));
+    }
+
     protected Collection<String> transformPhraseToList(String phrases) {
         String nonNullPhrases = StringUtils.trimToEmpty(phrases);
         String[] splittedPhrases = StringUtils.split(nonNullPhrases, PHRASES_SEPARATOR);
@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import jenkins.util.SystemProperties;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link StringFilter} accepting long texts, such as pull request descriptions, which contain any of the phrases or
+ * any match of the patterns within their first characters.
+ *
+ * <p>The text is searched in place: it is neither copied nor normalized, case insensitivity comes from the pattern
+ * flags and the search is bounded by a {@link Matcher#region(int, int) region} of the text. All the patterns are
+ * combined into one alternation when possible, so a single left to right scan stops at the first match of any of
+ * them.</p>
+ *
+ * @since 0.3.0
+ */
+public class TextSearchFilter extends StringFilter {
+
+    /**
+     * The default number of leading characters searched.
+     */
+    public static final int DEFAULT_MAX_SCAN_LENGTH = SystemProperties.getInteger(
+            TextSearchFilter.class.getName() + ".maxScanLength", 64 * 1024);
+
+    private final int maxScanLength;
+    private final Pattern combined;
+
+    /**
+     * Constructor.
+     *
+     * @param phrases       the phrases to search for, separated by ',' or ';'
+     * @param ignoreCase    ignore case sensitivity
+     * @param maxScanLength the number of leading characters searched, {@code 0} or less for the default
+     */
+    public TextSearchFilter(String phrases, boolean ignoreCase, int maxScanLength) {
+        super(phrases, ignoreCase);
+        this.maxScanLength = maxScanLength > 0 ? maxScanLength : DEFAULT_MAX_SCAN_LENGTH;
+        this.combined = IncludeExcludeStringFilter.combine(getPatterns(), Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param pattern       the pattern to search for anywhere in the text
+     * @param maxScanLength the number of leading characters searched, {@code 0} or less for the default
+     */
+    public TextSearchFilter(Pattern pattern, int maxScanLength) {
+        this(pattern != null ? Collections.singletonList(pattern) : Collections.emptyList(), maxScanLength);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param patterns      the patterns to search for anywhere in the text
+     * @param maxScanLength the number of leading characters searched, {@code 0} or less for the default
+     */
+    public TextSearchFilter(Collection<Pattern> patterns, int maxScanLength) {
+        super(patterns);
+        this.maxScanLength = maxScanLength > 0 ? maxScanLength : DEFAULT_MAX_SCAN_LENGTH;
+        this.combined = IncludeExcludeStringFilter.combine(getPatterns(), Collections.emptyList());
+    }
+
+    @Override
+    public boolean accepted(String data) {
+        if (!canFilter()) {
+            return true;
+        }
+
+        if (data == null) {
+            return false;
+        }
+
+        if (combined != null) {
+            return find(combined, data);
+        }
+        for (Pattern pattern : getPatterns()) {
+            if (find(pattern, data)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches each text of the batch, the batch evaluation of {@link StringFilter} matches whole strings instead.
+     *
+     * @param data the data to validate
+     * @return the verdicts, in the order of the data
+     */
+    @Override
+    public boolean[] acceptedAll(List<? extends String> data) {
+        boolean[] accepted = new boolean[data.size()];
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = accepted(data.get(i));
+        }
+        return accepted;
+    }
+
+    /**
+     * Searches the leading characters of the text, the lookarounds and the anchors still see the characters around
+     * the region, so a phrase cut by the end of the region is not reported.
+     */
+    private boolean find(Pattern pattern, String data) {
+        Matcher matcher = pattern.matcher(guard(data, pattern));
+        matcher.useTransparentBounds(true).useAnchoringBounds(false);
+        matcher.region(0, Math.min(data.length(), maxScanLength));
+        return matcher.find();
+    }
+
+    public int getMaxScanLength() {
+        return maxScanLength;
+    }
+
+    /**
+     * Describes the patterns and the scan length, equal filters have equal descriptions.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + "[" + maxScanLength + "]";
+    }
+
+    /**
+     * Matches the phrase as a whole word anywhere in the text, without the leading and trailing wildcards of the
+     * title phrases which would scan the whole text.
+     */
+    @Override
+    protected Pattern transformPhraseToPattern(String phrase, int flags) {
+        return Pattern.compile("(?<!\\w)\\Q" + phrase + "\\E(?!\\w)", flags);
+    }
+
+}
@@ -23,10 +23,35 @@
  */
 package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
 
+import java.util.List;
+
+/**
+ * Validates the data extracted from a pull request.
+ *
+ * <p>Filters are shared by all the heads of a scan and may be evaluated from several threads at once, so
+ * implementations must be safe for concurrent use, preferably by being immutable.</p>
+ *
+ * @param <T> data type to validation
+ */
 public interface TypeFilter<T> {
 
     boolean canFilter();
 
     boolean accepted(T data);
 
+    /**
+     * Validates a batch of data.
+     *
+     * @param data the data to validate
+     * @return the verdicts, in the order of the data
+     * @since 0.3.0
+     */
+    default boolean[] acceptedAll(List<? extends T> data) {
+        boolean[] accepted = new boolean[data.size()];
+        for (int i = 0; i < accepted.length; i++) {
+            accepted[i] = accepted(data.get(i));
+        }
+        return accepted;
+    }
+
 }
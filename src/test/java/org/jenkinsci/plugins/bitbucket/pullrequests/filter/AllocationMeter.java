@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Measures the heap allocated by the current thread per call of an operation, based on the allocated-bytes counters
+ * of {@link com.sun.management.ThreadMXBean}.
+ */
+public final class AllocationMeter {
+
+    private static volatile boolean sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Checks the running JVM can count the allocated bytes per thread.
+     *
+     * @return {@code true} if the allocation can be measured
+     */
+    public static boolean isSupported() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return false;
+        }
+        com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+        if (!sunThreads.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!sunThreads.isThreadAllocatedMemoryEnabled()) {
+            sunThreads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return true;
+    }
+
+    /**
+     * Warms the operation up with as many calls as measured and returns the average number of bytes allocated by a single call.
+     *
+     * @param iterations the number of measured calls
+     * @param call       the operation to measure
+     * @return the average allocated bytes per call
+     */
+    public static long bytesPerCall(int iterations, BooleanSupplier call) {
+        boolean result = false;
+        for (int i = 0; i < iterations; i++) {
+            result ^= call.getAsBoolean();
+        }
+
+        long before = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            result ^= call.getAsBoolean();
+        }
+        long after = allocatedBytes();
+
+        sink = result;
+        return (after - before) / iterations;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter;
+
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketBranch;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestDestination;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequestSource;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lightweight, immutable and thread-safe {@link BitbucketPullRequest} instances for tests which need many of them,
+ * where mocks would be too slow or would record every invocation.
+ */
+public final class PullRequestFixtures {
+
+    public static final String SERVER_URL = "https://bitbucket.example.com";
+    public static final String OWNER = "PROJ";
+    public static final String REPOSITORY = "repo";
+
+    private PullRequestFixtures() {
+    }
+
+    /**
+     * Creates a pull request between two branches of the same repository.
+     *
+     * @param id     the pull request id
+     * @param title  the title
+     * @param source the source branch name
+     * @param target the target branch name
+     * @return the pull request
+     */
+    public static BitbucketPullRequest pullRequest(int id, String title, String source, String target) {
+        return pullRequest(id, title, source, target, new HashMap<>());
+    }
+
+    /**
+     * Creates a pull request between two branches of the same repository.
+     *
+     * @param id         the pull request id
+     * @param title      the title
+     * @param source     the source branch name
+     * @param target     the target branch name
+     * @param properties additional or overridden property values, keyed by the getter name
+     * @return the pull request
+     */
+    public static BitbucketPullRequest pullRequest(int id, String title, String source, String target, Map<String, Object> properties) {
+        BitbucketRepository repository = repository(OWNER, REPOSITORY);
+
+        Map<String, Object> sourceValues = new HashMap<>();
+        sourceValues.put("getBranch", branch(source));
+        sourceValues.put("getRepository", properties.getOrDefault("sourceRepository", repository));
+
+        Map<String, Object> destinationValues = new HashMap<>();
+        destinationValues.put("getBranch", branch(target));
+        destinationValues.put("getRepository", repository);
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("getId", String.valueOf(id));
+        values.put("getTitle", title);
+        values.put("getLink", SERVER_URL + "/projects/" + OWNER + "/repos/" + REPOSITORY + "/pull-requests/" + id);
+        values.put("getSource", proxy(BitbucketPullRequestSource.class, sourceValues));
+        values.put("getDestination", proxy(BitbucketPullRequestDestination.class, destinationValues));
+        values.putAll(properties);
+        List<Class<?>> extraTypes = new ArrayList<>();
+        if (values.containsKey("getUpdatedOn")) {
+            extraTypes.add(Updated.class);
+        }
+        if (values.containsKey("getDescription")) {
+            extraTypes.add(Described.class);
+        }
+        if (values.containsKey("getReviewers")) {
+            extraTypes.add(Reviewed.class);
+        }
+        return proxy(BitbucketPullRequest.class, values, extraTypes.toArray(new Class<?>[0]));
+    }
+
+    public static BitbucketRepository repository(String owner, String name) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getOwnerName", owner);
+        values.put("getRepositoryName", name);
+        values.put("getFullName", owner + "/" + name);
+        return proxy(BitbucketRepository.class, values);
+    }
+
+    public static BitbucketBranch branch(String name) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("getName", name);
+        return proxy(BitbucketBranch.class, values);
+    }
+
+    /**
+     * Implements the interface by returning the value registered for the called getter, {@code null} or zero for the
+     * others.
+     */
+    private static <T> T proxy(Class<T> type, Map<String, Object> values, Class<?>... extraTypes) {
+        Map<String, Object> snapshot = new HashMap<>(values);
+        Class<?>[] types = new Class<?>[extraTypes.length + 1];
+        types[0] = type;
+        System.arraycopy(extraTypes, 0, types, 1, extraTypes.length);
+        Object instance = Proxy.newProxyInstance(PullRequestFixtures.class.getClassLoader(), types, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + snapshot;
+                default:
+                    Object value = snapshot.get(method.getName());
+                    if (value == null && method.getReturnType().isPrimitive()) {
+                        return method.getReturnType() == boolean.class ? Boolean.FALSE : defaultNumber(method.getReturnType());
+                    }
+                    return value;
+            }
+        });
+        return type.cast(instance);
+    }
+
+    /**
+     * The update time some implementations of {@link BitbucketPullRequest} provide, set with the {@code getUpdatedOn}
+     * property.
+     */
+    public interface Updated {
+
+        Object getUpdatedOn();
+
+    }
+
+    /**
+     * The description some implementations of {@link BitbucketPullRequest} provide, set with the
+     * {@code getDescription} property.
+     */
+    public interface Described {
+
+        String getDescription();
+
+    }
+
+    /**
+     * The reviewers some implementations of {@link BitbucketPullRequest} provide, set with the {@code getReviewers}
+     * property.
+     */
+    public interface Reviewed {
+
+        List<?> getReviewers();
+
+    }
+
+    private static Object defaultNumber(Class<?> type) {
+        if (type == long.class) {
+            return 0L;
+        } else if (type == int.class) {
+            return 0;
+        } else if (type == double.class) {
+            return 0d;
+        } else if (type == float.class) {
+            return 0f;
+        } else if (type == short.class) {
+            return (short) 0;
+        } else if (type == byte.class) {
+            return (byte) 0;
+        }
+        return (char) 0;
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import jenkins.scm.api.trait.SCMHeadFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.title.PullRequestTitlePhraseNotExistsFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AbstractPullRequestFilterBatchTest {
+
+    private static final int PULL_REQUESTS = 500;
+
+    @Test
+    public void testListIsEvaluatedOncePerScan() throws Exception {
+        // given
+        List<BitbucketPullRequest> pullRequests = new ArrayList<>();
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            pullRequests.add(PullRequestFixtures.pullRequest(id, (id % 4 == 0 ? "Draft: " : "") + "Change " + id, "feature/" + id, "master"));
+        }
+        BitbucketSCMSourceRequest request = givenRequest(pullRequests);
+        SCMHeadFilter filter = new PullRequestTitlePhraseNotExistsFilter(new StringFilter("wip, draft"));
+
+        // when
+        int excluded = 0;
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            if (filter.isExcluded(request, givenHead("feature/" + id))) {
+                excluded++;
+            }
+        }
+
+        // then
+        assertThat(excluded, is(PULL_REQUESTS / 4));
+        verify(request, times(1)).getPullRequests();
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testFirstPullRequestOfSourceBranchIsEvaluated() throws Exception {
+        // given
+        List<BitbucketPullRequest> pullRequests = new ArrayList<>();
+        pullRequests.add(PullRequestFixtures.pullRequest(1, "WIP: Change", "feature/shared", "master"));
+        pullRequests.add(PullRequestFixtures.pullRequest(2, "Change", "feature/shared", "develop"));
+        BitbucketSCMSourceRequest request = givenRequest(pullRequests);
+        SCMHeadFilter filter = new PullRequestTitlePhraseNotExistsFilter(new StringFilter("wip"));
+
+        // when
+        boolean isExcluded = filter.isExcluded(request, givenHead("feature/shared"));
+
+        // then
+        assertThat(isExcluded, is(true));
+    }
+
+    @Test
+    public void testUnknownBranchIsAccepted() throws Exception {
+        // given
+        List<BitbucketPullRequest> pullRequests = new ArrayList<>();
+        pullRequests.add(PullRequestFixtures.pullRequest(1, "WIP: Change", "feature/1", "master"));
+        BitbucketSCMSourceRequest request = givenRequest(pullRequests);
+        SCMHeadFilter filter = new PullRequestTitlePhraseNotExistsFilter(new StringFilter("wip"));
+
+        // when
+        boolean isExcluded = filter.isExcluded(request, givenHead("feature/2"));
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(List<BitbucketPullRequest> pullRequests) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(pullRequests);
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AbstractPullRequestFilterDeadlineTest {
+
+    private final List<BitbucketPullRequest> pullRequests = new ArrayList<>();
+    private final Map<Integer, BitbucketPullRequest> byId = new HashMap<>();
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    @After
+    public void tearDown() {
+        Thread.interrupted();
+    }
+
+    @Test
+    public void testInterruptedScanStopsBeforeFetch() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        BitbucketSCMSourceRequest request = givenRequest();
+        AbstractPullRequestFilter<String> filter = givenFilter(0, FallbackVerdict.EXCLUDE);
+        Thread.currentThread().interrupt();
+
+        // when
+        InterruptedException exception = null;
+        try {
+            filter.isExcluded(request, givenHead(1));
+        } catch (InterruptedException e) {
+            exception = e;
+        }
+
+        // then
+        assertThat(exception, notNullValue());
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testScanWithoutBudget() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        givenPullRequest(2, "drop");
+        BitbucketSCMSourceRequest request = givenRequest();
+        AbstractPullRequestFilter<String> filter = givenFilter(0, FallbackVerdict.ACCEPT);
+
+        // when
+        boolean first = filter.isExcluded(request, givenHead(1));
+        Thread.sleep(20);
+        boolean second = filter.isExcluded(request, givenHead(2));
+
+        // then
+        assertThat(first, is(false));
+        assertThat(second, is(true));
+    }
+
+    @Test
+    public void testExpiredScanExcludesRemainingPullRequests() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        givenPullRequest(2, "keep");
+        BitbucketSCMSourceRequest request = givenRequest();
+        AbstractPullRequestFilter<String> filter = givenFilter(1, FallbackVerdict.EXCLUDE);
+
+        // when
+        filter.isExcluded(request, givenHead(1));
+        Thread.sleep(20);
+        boolean second = filter.isExcluded(request, givenHead(2));
+
+        // then
+        assertThat(second, is(true));
+    }
+
+    @Test
+    public void testExpiredScanAcceptsRemainingPullRequests() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        givenPullRequest(2, "drop");
+        BitbucketSCMSourceRequest request = givenRequest();
+        AbstractPullRequestFilter<String> filter = givenFilter(1, FallbackVerdict.ACCEPT);
+
+        // when
+        filter.isExcluded(request, givenHead(1));
+        Thread.sleep(20);
+        boolean second = filter.isExcluded(request, givenHead(2));
+
+        // then
+        assertThat(second, is(false));
+    }
+
+    @Test
+    public void testExpiredScanRepeatsCachedVerdicts() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        givenPullRequest(2, "drop");
+        givenPullRequest(3, "drop");
+        BitbucketSCMSourceRequest previousScan = givenRequest();
+        givenFilter(60_000, FallbackVerdict.CACHED).isExcluded(previousScan, givenHead(2));
+        BitbucketSCMSourceRequest request = givenRequest();
+        AbstractPullRequestFilter<String> filter = givenFilter(1, FallbackVerdict.CACHED);
+
+        // when
+        filter.isExcluded(request, givenHead(1));
+        Thread.sleep(20);
+        boolean cached = filter.isExcluded(request, givenHead(2));
+        boolean notEvaluated = filter.isExcluded(request, givenHead(3));
+
+        // then
+        assertThat(cached, is(true));
+        assertThat(notEvaluated, is(false));
+    }
+
+    @Test(timeout = 10_000)
+    public void testExpiredScanDoesNotWaitForSlowFetch() throws Exception {
+        // given
+        givenPullRequest(1, "keep");
+        BitbucketSCMSourceRequest request = givenRequest();
+        when(request.getPullRequestById(1)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return byId.get(1);
+        });
+        AbstractPullRequestFilter<String> filter = givenFilter(200, FallbackVerdict.EXCLUDE);
+
+        // when
+        long start = System.nanoTime();
+        boolean isExcluded = filter.isExcluded(request, givenHead(1));
+
+        // then
+        assertThat(isExcluded, is(true));
+        assertThat(System.nanoTime() - start, lessThan(TimeUnit.SECONDS.toNanos(3)));
+    }
+
+    private void givenPullRequest(int id, String title) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        BitbucketPullRequest pullRequest = PullRequestFixtures.pullRequest(id, title, "feature/" + id, "master", properties);
+        pullRequests.add(pullRequest);
+        byId.put(id, pullRequest);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest() throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Collections.unmodifiableList(new ArrayList<>(pullRequests)));
+        when(request.getPullRequestById(anyInt())).thenAnswer(invocation -> byId.get(invocation.<Integer>getArgument(0)));
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(int id) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn("feature/" + id);
+        return head;
+    }
+
+    /**
+     * A filter accepting the pull requests titled 'keep', with the given scan budget and fallback.
+     */
+    private AbstractPullRequestFilter<String> givenFilter(long budgetMillis, FallbackVerdict verdict) {
+        return new AbstractPullRequestFilter<String>(new StringFilter("keep")) {
+
+            @Override
+            protected String getData(BitbucketPullRequest pullRequest) {
+                return pullRequest.getTitle();
+            }
+
+            @Override
+            protected String getMessage(BitbucketPullRequest pullRequest) {
+                return null;
+            }
+
+            @Override
+            protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+                return true;
+            }
+
+            @Override
+            protected long getScanBudgetMillis() {
+                return budgetMillis;
+            }
+
+            @Override
+            protected FallbackVerdict getDeadlineVerdict() {
+                return verdict;
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AbstractPullRequestFilterRescanTest {
+
+    private static final int PULL_REQUESTS = 20;
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    public void testUnchangedPullRequestsReuseVerdicts() throws Exception {
+        // given
+        Map<Integer, BitbucketPullRequest> pullRequests = givenPullRequests("2026-10-01T10:00:00Z");
+        boolean[] firstScan = scan(givenRequest(pullRequests));
+        int firstScanFetches = fetches.getAndSet(0);
+
+        // when
+        boolean[] secondScan = scan(givenRequest(pullRequests));
+
+        // then
+        assertThat(firstScanFetches, is(PULL_REQUESTS));
+        assertThat(fetches.get(), is(0));
+        assertThat(secondScan, is(firstScan));
+    }
+
+    @Test
+    public void testChangedPullRequestIsEvaluatedAgain() throws Exception {
+        // given
+        Map<Integer, BitbucketPullRequest> pullRequests = givenPullRequests("2026-10-01T10:00:00Z");
+        scan(givenRequest(pullRequests));
+        fetches.set(0);
+        pullRequests.put(7, givenPullRequest(7, "WIP Change 7", "2026-10-02T10:00:00Z"));
+
+        // when
+        boolean[] secondScan = scan(givenRequest(pullRequests));
+
+        // then
+        assertThat(fetches.get(), is(1));
+        assertThat(secondScan[6], is(true));
+    }
+
+    @Test
+    public void testPullRequestsWithoutUpdateTimeAreFetchedAgain() throws Exception {
+        // given
+        Map<Integer, BitbucketPullRequest> pullRequests = givenPullRequests(null);
+        scan(givenRequest(pullRequests));
+        fetches.set(0);
+
+        // when
+        scan(givenRequest(pullRequests));
+
+        // then
+        assertThat(fetches.get(), is(PULL_REQUESTS));
+    }
+
+    @Test
+    public void testFilterWithoutDescriptionReusesVerdictsOfTheSameInstance() throws Exception {
+        // given
+        Map<Integer, BitbucketPullRequest> pullRequests = givenPullRequests("2026-10-01T10:00:00Z");
+        TypeFilter<String> compiled = new WorkInProgressFilter();
+        scan(givenRequest(pullRequests), compiled);
+        fetches.set(0);
+
+        // when
+        boolean[] sameInstance = scan(givenRequest(pullRequests), compiled);
+        int sameInstanceFetches = fetches.getAndSet(0);
+        boolean[] otherInstance = scan(givenRequest(pullRequests), new WorkInProgressFilter());
+
+        // then
+        assertThat(sameInstanceFetches, is(0));
+        assertThat(fetches.get(), is(PULL_REQUESTS));
+        assertThat(otherInstance, is(sameInstance));
+    }
+
+    private boolean[] scan(BitbucketSCMSourceRequest request) throws Exception {
+        return scan(request, new StringFilter("WIP"));
+    }
+
+    private boolean[] scan(BitbucketSCMSourceRequest request, TypeFilter<String> typeFilter) throws Exception {
+        AbstractPullRequestFilter<String> filter = givenFilter(typeFilter);
+        boolean[] excluded = new boolean[PULL_REQUESTS];
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+            when(head.getBranchName()).thenReturn("feature/" + id);
+            excluded[id - 1] = filter.isExcluded(request, head);
+        }
+        return excluded;
+    }
+
+    /**
+     * Every third pull request is a work in progress.
+     */
+    private Map<Integer, BitbucketPullRequest> givenPullRequests(String updatedOn) {
+        Map<Integer, BitbucketPullRequest> pullRequests = new HashMap<>();
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            pullRequests.put(id, givenPullRequest(id, (id % 3 == 0 ? "WIP " : "") + "Change " + id, updatedOn));
+        }
+        return pullRequests;
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, String title, String updatedOn) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        if (updatedOn != null) {
+            properties.put("getUpdatedOn", updatedOn);
+        }
+        return PullRequestFixtures.pullRequest(id, title, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(Map<Integer, BitbucketPullRequest> pullRequests) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        List<BitbucketPullRequest> listed = new ArrayList<>();
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            listed.add(pullRequests.get(id));
+        }
+        Map<Integer, BitbucketPullRequest> snapshot = new HashMap<>(pullRequests);
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(listed);
+        when(request.getPullRequestById(anyInt())).thenAnswer(invocation -> {
+            fetches.incrementAndGet();
+            return snapshot.get(invocation.<Integer>getArgument(0));
+        });
+        return request;
+    }
+
+    /**
+     * A filter skipping work in progress, which needs the full pull request like a filter of the description would.
+     */
+    private AbstractPullRequestFilter<String> givenFilter(TypeFilter<String> typeFilter) {
+        return new AbstractPullRequestFilter<String>(typeFilter) {
+
+            @Override
+            protected boolean isAccepted(BitbucketPullRequest pullRequest) {
+                return !super.isAccepted(pullRequest);
+            }
+
+            @Override
+            protected String getData(BitbucketPullRequest pullRequest) {
+                return pullRequest.getTitle();
+            }
+
+            @Override
+            protected String getMessage(BitbucketPullRequest pullRequest) {
+                return null;
+            }
+
+            @Override
+            protected boolean requiresFullPullRequest(BitbucketPullRequest pullRequest) {
+                return true;
+            }
+
+        };
+    }
+
+    /**
+     * A filter matching work in progress which, like most filters of other plugins, does not describe itself.
+     */
+    private static final class WorkInProgressFilter implements TypeFilter<String> {
+
+        @Override
+        public boolean canFilter() {
+            return true;
+        }
+
+        @Override
+        public boolean accepted(String data) {
+            return data != null && data.contains("WIP");
+        }
+
+    }
+
+}
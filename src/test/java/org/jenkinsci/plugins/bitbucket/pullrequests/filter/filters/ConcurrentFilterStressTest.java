@@ -0,0 +1,217 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import jenkins.scm.api.trait.SCMHeadFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestSourceBranchNotMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch.PullRequestTargetBranchMatchesFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.title.PullRequestTitlePhraseNotExistsFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Evaluates thousands of heads from many threads against filters shared by all of them, and checks every thread
+ * sees exactly the verdicts of a sequential evaluation. Each pass gets a new filter and a new request, so the threads
+ * race to build the index of the scan.
+ */
+public class ConcurrentFilterStressTest {
+
+    private static final int PULL_REQUESTS = 2_000;
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 3;
+
+    private final List<PullRequestSCMHead> heads = new ArrayList<>();
+    private final List<BitbucketPullRequest> pullRequests = new ArrayList<>();
+
+    private final Map<Integer, BitbucketPullRequest> byId = new HashMap<>();
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        for (int id = 1; id <= PULL_REQUESTS; id++) {
+            String title = (id % 3 == 0 ? "WIP " : "") + "Change " + id;
+            String source = (id % 5 == 0 ? "dependabot/npm/lib-" : "feature/change-") + id;
+            String target = id % 4 == 0 ? "release/1." + id % 7 : "master";
+            BitbucketPullRequest pullRequest = PullRequestFixtures.pullRequest(id, title, source, target);
+            pullRequests.add(pullRequest);
+            byId.put(id, pullRequest);
+
+            PullRequestSCMHead head = mock(PullRequestSCMHead.class, withSettings().stubOnly());
+            when(head.getBranchName()).thenReturn(source);
+            heads.add(head);
+        }
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTitleFilter() throws Exception {
+        // given
+        Supplier<SCMHeadFilter> filter = () -> new PullRequestTitlePhraseNotExistsFilter(new StringFilter("wip, draft", true));
+
+        // when
+        boolean[] sequential = evaluateSequentially(filter);
+        List<boolean[]> concurrent = evaluateConcurrently(filter);
+
+        // then
+        for (int i = 0; i < PULL_REQUESTS; i++) {
+            assertThat(sequential[i], is((i + 1) % 3 == 0));
+        }
+        assertDeterministic(sequential, concurrent);
+    }
+
+    @Test
+    public void testTargetBranchFilter() throws Exception {
+        // given
+        Supplier<SCMHeadFilter> filter = () -> new PullRequestTargetBranchMatchesFilter(
+                new StringFilter(Pattern.compile("^release/1\\.[0-3]$")));
+
+        // when
+        boolean[] sequential = evaluateSequentially(filter);
+        List<boolean[]> concurrent = evaluateConcurrently(filter);
+
+        // then
+        for (int i = 0; i < PULL_REQUESTS; i++) {
+            int id = i + 1;
+            assertThat(sequential[i], is(id % 4 != 0 || id % 7 > 3));
+        }
+        assertDeterministic(sequential, concurrent);
+    }
+
+    @Test
+    public void testSourceBranchFilter() throws Exception {
+        // given
+        Supplier<SCMHeadFilter> filter = () -> new PullRequestSourceBranchNotMatchesFilter(
+                new StringFilter(Pattern.compile("dependabot/.*")));
+
+        // when
+        boolean[] sequential = evaluateSequentially(filter);
+        List<boolean[]> concurrent = evaluateConcurrently(filter);
+
+        // then
+        for (int i = 0; i < PULL_REQUESTS; i++) {
+            assertThat(sequential[i], is((i + 1) % 5 == 0));
+        }
+        assertDeterministic(sequential, concurrent);
+    }
+
+    private boolean[] evaluateSequentially(Supplier<SCMHeadFilter> filters) throws Exception {
+        SCMHeadFilter filter = filters.get();
+        BitbucketSCMSourceRequest request = givenRequest();
+        boolean[] excluded = new boolean[PULL_REQUESTS];
+        for (int i = 0; i < PULL_REQUESTS; i++) {
+            excluded[i] = filter.isExcluded(request, heads.get(i));
+        }
+        return excluded;
+    }
+
+    /**
+     * Every thread of a round evaluates all the heads with the filter and the request of the round, each starting at
+     * a different offset so the threads hit the same heads at different times. The threads of a round start together,
+     * so they race for the first access to the filter in the scan.
+     */
+    private List<boolean[]> evaluateConcurrently(Supplier<SCMHeadFilter> filters) throws Exception {
+        List<boolean[]> results = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            SCMHeadFilter filter = filters.get();
+            BitbucketSCMSourceRequest request = givenRequest();
+            CountDownLatch started = new CountDownLatch(THREADS);
+            List<Callable<boolean[]>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = (thread * PULL_REQUESTS) / THREADS;
+                tasks.add(() -> {
+                    started.countDown();
+                    started.await();
+                    boolean[] excluded = new boolean[PULL_REQUESTS];
+                    for (int n = 0; n < PULL_REQUESTS; n++) {
+                        int i = (offset + n) % PULL_REQUESTS;
+                        excluded[i] = filter.isExcluded(request, heads.get(i));
+                    }
+                    return excluded;
+                });
+            }
+
+            for (Future<boolean[]> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        }
+        return results;
+    }
+
+    private BitbucketSCMSourceRequest givenRequest() throws Exception {
+        TaskListener listener = mock(TaskListener.class, withSettings().stubOnly());
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class, withSettings().stubOnly());
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Collections.unmodifiableList(pullRequests));
+        when(request.getPullRequestById(anyInt())).thenAnswer(invocation -> byId.get(invocation.<Integer>getArgument(0)));
+        return request;
+    }
+
+    private void assertDeterministic(boolean[] expected, List<boolean[]> results) {
+        assertThat(results.size(), is(ROUNDS * THREADS));
+        for (boolean[] result : results) {
+            for (int i = 0; i < PULL_REQUESTS; i++) {
+                assertThat("Verdict of PR-" + (i + 1), result[i], is(expected[i]));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.author;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestAuthorFilterTest {
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    @Test
+    public void testBotAuthorIsExcluded() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "Dependabot", null), null);
+
+        // when
+        boolean isExcluded = new PullRequestAuthorNotMatchesFilter(new IdentitySetFilter("dependabot, renovate"), false)
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testHumanAuthorIsAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "jdoe", null), null);
+
+        // when
+        boolean isExcluded = new PullRequestAuthorNotMatchesFilter(new IdentitySetFilter("dependabot, renovate"), false)
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test
+    public void testTeamReviewerIsAccepted() throws Exception {
+        // given
+        List<Reviewer> reviewers = Arrays.asList(new Reviewer("asmith"), new Reviewer("team-lead"));
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "jdoe", reviewers), null);
+
+        // when
+        boolean withReviewers = new PullRequestAuthorMatchesFilter(new IdentitySetFilter("team-lead"), true)
+                .isExcluded(request, givenHead("feature/1"));
+        boolean withoutReviewers = new PullRequestAuthorMatchesFilter(new IdentitySetFilter("team-lead"), false)
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(withReviewers, is(false));
+        assertThat(withoutReviewers, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testMissingListedReviewersAreFetched() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "jdoe", null),
+                givenPullRequest(1, "jdoe", Collections.singletonList(new Reviewer("team-lead"))));
+
+        // when
+        boolean isExcluded = new PullRequestAuthorMatchesFilter(new IdentitySetFilter("team-lead"), true)
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(request).getPullRequestById(1);
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, String author, List<Reviewer> reviewers) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        properties.put("getAuthorLogin", author);
+        if (reviewers != null) {
+            properties.put("getReviewers", reviewers);
+        }
+        return PullRequestFixtures.pullRequest(id, "Change " + id, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest listed, BitbucketPullRequest full) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Collections.singletonList(listed));
+        if (full != null) {
+            when(request.getPullRequestById(Integer.parseInt(full.getId()))).thenReturn(full);
+        }
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+    /**
+     * A reviewer as the Bitbucket Server API describes it, with the user nested.
+     */
+    public static final class Reviewer {
+
+        private final User user;
+
+        Reviewer(String name) {
+            this.user = new User(name);
+        }
+
+        public User getUser() {
+            return user;
+        }
+    }
+
+    public static final class User {
+
+        private final String name;
+
+        User(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+}
@@ -44,6 +44,10 @@ import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -73,12 +77,11 @@ public class PullRequestSourceBranchMatchesFilterTest {
     @Before
     public void setUp() throws Throwable {
         when(taskListener.getLogger()).thenReturn(logger);
-        when(pullRequest.getId()).thenReturn("1");
         when(pullRequest.getSource()).thenReturn(pullRequestSource);
         when(pullRequestSource.getBranch()).thenReturn(branch);
         when(scmSourceRequest.listener()).thenReturn(taskListener);
         when(scmSourceRequest.getPullRequests()).thenReturn(Arrays.asList(pullRequest));
-        when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
+        lenient().when(pullRequest.getId()).thenReturn("1");
     }
     
     private void setupBranchNameMock(String branchName) {
@@ -205,6 +208,32 @@ public class PullRequestSourceBranchMatchesFilterTest {
         assertThat(isExcluded, is(true));
     }
 
+    @Test
+    public void testEvaluatedWithoutFetchingPullRequest() throws IOException, InterruptedException {
+        // given
+        setupBranchNameMock("test-branch-name");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("test-branch-name")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(scmSourceRequest, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testVerdictIsDecidedInBatch() throws IOException, InterruptedException {
+        // given
+        setupBranchNameMock("test-branch-name");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("test-branch-name")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(pullRequest, never()).getLink();
+    }
+
     @Test
     public void testNullPattern() throws IOException, InterruptedException {
         // given
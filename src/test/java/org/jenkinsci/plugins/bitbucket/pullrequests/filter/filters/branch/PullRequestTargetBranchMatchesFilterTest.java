@@ -47,6 +47,10 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -82,7 +86,6 @@ public class PullRequestTargetBranchMatchesFilterTest {
     @Before
     public void setUp() throws Throwable {
         when(taskListener.getLogger()).thenReturn(logger);
-        when(pullRequest.getId()).thenReturn("1");
         when(pullRequest.getDestination()).thenReturn(pullRequestDestination);
         when(pullRequest.getSource()).thenReturn(pullRequestSource);
         when(pullRequestDestination.getBranch()).thenReturn(targetBranch);
@@ -91,7 +94,7 @@ public class PullRequestTargetBranchMatchesFilterTest {
         when(pullRequestSCMHead.getBranchName()).thenReturn("dummy");
         when(scmSourceRequest.listener()).thenReturn(taskListener);
         when(scmSourceRequest.getPullRequests()).thenReturn(Arrays.asList(pullRequest));
-        when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
+        lenient().when(pullRequest.getId()).thenReturn("1");
     }
     
     private void setupTargetBranchNameMock(String branchName) {
@@ -217,6 +220,32 @@ public class PullRequestTargetBranchMatchesFilterTest {
         assertThat(isExcluded, is(true));
     }
 
+    @Test
+    public void testEvaluatedWithoutFetchingPullRequest() throws IOException, InterruptedException {
+        // given
+        setupTargetBranchNameMock("test-branch-name");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("test-branch-name")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(scmSourceRequest, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testVerdictIsDecidedInBatch() throws IOException, InterruptedException {
+        // given
+        setupTargetBranchNameMock("test-branch-name");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("test-branch-name")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(pullRequest, never()).getLink();
+    }
+
     @Test
     public void testNullPattern() throws IOException, InterruptedException {
         // given
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.branch;
+
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.StringFilter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PullRequestTargetBranchPrefilterTest {
+
+    @Mock
+    SCMSource source;
+
+    @Mock
+    PullRequestSCMHead pullRequestSCMHead;
+
+    private void setupBranchNameMock(String branchName) {
+        when(pullRequestSCMHead.getTarget()).thenReturn(new SCMHead(branchName));
+    }
+
+    @Test
+    public void testMatchingBranchIsAccepted() {
+        // given
+        setupBranchNameMock("release/1.x");
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test
+    public void testNotMatchingBranchIsExcluded() {
+        // given
+        setupBranchNameMock("feature/login");
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(true));
+    }
+
+    @Test
+    public void testIgnoredBranchIsExcluded() {
+        // given
+        setupBranchNameMock("release/1.x");
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchNotMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(true));
+    }
+
+    @Test
+    public void testNotIgnoredBranchIsAccepted() {
+        // given
+        setupBranchNameMock("feature/login");
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchNotMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test
+    public void testHeadWithoutBranchIsLeftToFilter() {
+        // given
+        when(pullRequestSCMHead.getTarget()).thenReturn(null);
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test
+    public void testOtherHeadIsAccepted() {
+        // when
+        boolean isExcluded = new PullRequestTargetBranchMatchesPrefilter(givenFilter("release/.*")).isExcluded(source, new SCMHead("feature/login"));
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test
+    public void testBlankPhrase() {
+        // given
+        setupBranchNameMock("release/1.x");
+
+        // when
+        boolean isExcluded = new PullRequestTargetBranchNotMatchesPrefilter(new StringFilter("")).isExcluded(source, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    private StringFilter givenFilter(String regex) {
+        return new StringFilter(Pattern.compile(regex));
+    }
+
+}
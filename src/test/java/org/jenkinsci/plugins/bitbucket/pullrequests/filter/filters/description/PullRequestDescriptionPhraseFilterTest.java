@@ -0,0 +1,175 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.description;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TextSearchFilter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestDescriptionPhraseFilterTest {
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com/projects/PROJ/repos/repo";
+
+    /**
+     * A Bitbucket Cloud workspace of its own, for the same reason.
+     */
+    private final String cloudUrl = "https://bitbucket.org/" + UUID.randomUUID() + "/repo";
+
+    @Test
+    public void testListedDescriptionIsSearchedWithoutFetching() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "Reworks the parser.\n\nDo not build yet"), null);
+
+        // when
+        boolean isExcluded = new PullRequestDescriptionPhraseNotExistsFilter(givenFilter("do not build"))
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testMissingListedDescriptionIsFetchedFromCloud() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(cloudUrl, 1, null),
+                givenPullRequest(cloudUrl, 1, "Reworks the parser.\n\nReady for review"));
+
+        // when
+        boolean isExcluded = new PullRequestDescriptionPhraseExistsFilter(givenFilter("ready for review"))
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(request).getPullRequestById(1);
+    }
+
+    @Test
+    public void testMissingListedDescriptionIsEmptyOnServer() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null), null);
+
+        // when
+        boolean isExcluded = new PullRequestDescriptionPhraseNotExistsFilter(givenFilter("do not build"))
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testOnlyTheEvaluatedPullRequestIsFetched() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(
+                Arrays.asList(givenPullRequest(cloudUrl, 1, null), givenPullRequest(cloudUrl, 2, null)),
+                givenPullRequest(cloudUrl, 1, "Reworks the parser.\n\nReady for review"));
+
+        // when
+        new PullRequestDescriptionPhraseExistsFilter(givenFilter("ready for review"))
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        verify(request).getPullRequestById(1);
+        verify(request, never()).getPullRequestById(2);
+    }
+
+    @Test
+    public void testDescriptionWithoutPhraseIsExcluded() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "Reworks the parser."), null);
+
+        // when
+        boolean isExcluded = new PullRequestDescriptionPhraseExistsFilter(givenFilter("ready for review"))
+                .isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(true));
+    }
+
+    private TextSearchFilter givenFilter(String phrases) {
+        return new TextSearchFilter(phrases, true, 0);
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, String description) {
+        return givenPullRequest(serverUrl, id, description);
+    }
+
+    private BitbucketPullRequest givenPullRequest(String repositoryUrl, int id, String description) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", repositoryUrl + "/pull-requests/" + id);
+        if (description != null) {
+            properties.put("getDescription", description);
+        }
+        return PullRequestFixtures.pullRequest(id, "Change " + id, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest listed, BitbucketPullRequest full) throws Exception {
+        return givenRequest(Collections.singletonList(listed), full);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(List<BitbucketPullRequest> listed, BitbucketPullRequest full) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(listed);
+        if (full != null) {
+            when(request.getPullRequestById(Integer.parseInt(full.getId()))).thenReturn(full);
+        }
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.expression;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import jenkins.scm.api.SCMHead;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression.PullRequestExpression;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestExpressionFilterTest {
+
+    private static final String EXPRESSION = "target ~ \"release/.*\" && !(title has \"WIP,DRAFT\")";
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    @Test
+    public void testListedPullRequestIsEvaluatedWithoutFetching() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "Draft: New parser", "release/1.0"), null);
+
+        // when
+        boolean isExcluded = givenFilter(EXPRESSION).isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testBranchConditionDecidesWithoutTitle() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null, "master"), null);
+
+        // when
+        boolean isExcluded = givenFilter(EXPRESSION).isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testMissingTitleIsFetchedWhenNeeded() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null, "release/1.0"),
+                givenPullRequest(1, "New parser", "release/1.0"));
+
+        // when
+        boolean isExcluded = givenFilter(EXPRESSION).isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(request).getPullRequestById(1);
+    }
+
+    @Test
+    public void testPrefilterExcludesByBranches() {
+        // given
+        PullRequestExpressionPrefilter prefilter = new PullRequestExpressionPrefilter(PullRequestExpression.compile(EXPRESSION));
+        PullRequestSCMHead wrongTarget = givenHead("feature/1", "master", null);
+        PullRequestSCMHead rightTarget = givenHead("feature/2", "release/1.0", null);
+
+        // when
+        boolean wrongTargetExcluded = prefilter.isExcluded(mock(SCMSource.class), wrongTarget);
+        boolean rightTargetExcluded = prefilter.isExcluded(mock(SCMSource.class), rightTarget);
+
+        // then
+        assertThat(wrongTargetExcluded, is(true));
+        assertThat(rightTargetExcluded, is(false));
+    }
+
+    private PullRequestExpressionFilter givenFilter(String expression) {
+        return new PullRequestExpressionFilter(PullRequestExpression.compile(expression));
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, String title, String target) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        return PullRequestFixtures.pullRequest(id, title, "feature/" + id, target, properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest listed, BitbucketPullRequest full) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Collections.singletonList(listed));
+        if (full != null) {
+            when(request.getPullRequestById(Integer.parseInt(full.getId()))).thenReturn(full);
+        }
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName, String target, String title) {
+        PullRequestSCMHead head = givenHead(branchName);
+        when(head.getTarget()).thenReturn(new SCMHead(target));
+        when(head.getTitle()).thenReturn(title);
+        return head;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.fork;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import jenkins.scm.api.SCMHeadOrigin;
+import jenkins.scm.api.SCMSource;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.IdentitySetFilter;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestForkFilterTest {
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    @Test
+    public void testPullRequestFromForkIsExcluded() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null), givenPullRequest(2, "contributor"));
+        PullRequestForkFilter filter = new PullRequestForkFilter(false, new IdentitySetFilter(""));
+
+        // when
+        boolean origin = filter.isExcluded(request, givenHead("feature/1", SCMHeadOrigin.DEFAULT, "PROJ"));
+        boolean fork = filter.isExcluded(request, givenHead("feature/2", new SCMHeadOrigin.Fork("contributor/repo"), "contributor"));
+
+        // then
+        assertThat(origin, is(false));
+        assertThat(fork, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testPullRequestFromTrustedForkIsAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, "Teammate"), givenPullRequest(2, "stranger"));
+        PullRequestForkFilter filter = new PullRequestForkFilter(false, new IdentitySetFilter("teammate"));
+
+        // when
+        boolean trusted = filter.isExcluded(request, givenHead("feature/1", new SCMHeadOrigin.Fork("Teammate/repo"), "Teammate"));
+        boolean untrusted = filter.isExcluded(request, givenHead("feature/2", new SCMHeadOrigin.Fork("stranger/repo"), "stranger"));
+
+        // then
+        assertThat(trusted, is(false));
+        assertThat(untrusted, is(true));
+    }
+
+    @Test
+    public void testOnlyPullRequestsFromForksAreAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null), givenPullRequest(2, "contributor"));
+        PullRequestForkFilter filter = new PullRequestForkFilter(true, new IdentitySetFilter(null));
+
+        // when
+        boolean origin = filter.isExcluded(request, givenHead("feature/1", SCMHeadOrigin.DEFAULT, "PROJ"));
+        boolean fork = filter.isExcluded(request, givenHead("feature/2", new SCMHeadOrigin.Fork("contributor/repo"), "contributor"));
+
+        // then
+        assertThat(origin, is(true));
+        assertThat(fork, is(false));
+    }
+
+    @Test
+    public void testPrefilterExcludesForkByHeadOrigin() {
+        // given
+        SCMSource source = mock(SCMSource.class);
+        PullRequestForkPrefilter prefilter = new PullRequestForkPrefilter(false, new IdentitySetFilter("teammate"));
+
+        // when
+        boolean origin = prefilter.isExcluded(source, givenHead("feature/1", SCMHeadOrigin.DEFAULT, "PROJ"));
+        boolean trusted = prefilter.isExcluded(source, givenHead("feature/2", new SCMHeadOrigin.Fork("teammate/repo"), "teammate"));
+        boolean untrusted = prefilter.isExcluded(source, givenHead("feature/3", new SCMHeadOrigin.Fork("stranger/repo"), "stranger"));
+
+        // then
+        assertThat(origin, is(false));
+        assertThat(trusted, is(false));
+        assertThat(untrusted, is(true));
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, String forkOwner) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        if (forkOwner != null) {
+            properties.put("sourceRepository", PullRequestFixtures.repository(forkOwner, PullRequestFixtures.REPOSITORY));
+        }
+        return PullRequestFixtures.pullRequest(id, "Change " + id, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest... listed) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Arrays.asList(listed));
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName, SCMHeadOrigin origin, String repoOwner) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        when(head.getOrigin()).thenReturn(origin);
+        when(head.getRepoOwner()).thenReturn(repoOwner);
+        return head;
+    }
+
+}
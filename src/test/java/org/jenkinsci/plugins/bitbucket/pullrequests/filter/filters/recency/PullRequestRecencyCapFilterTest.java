@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.recency;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestRecencyCapFilterTest {
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    @Test
+    public void testMostRecentlyUpdatedPullRequestsAreAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(
+                givenPullRequest(1, "2024-01-10T09:00:00.000000+00:00"),
+                givenPullRequest(2, "2024-03-02T09:00:00.000000+00:00"),
+                givenPullRequest(3, "2023-11-20T09:00:00.000000+00:00"),
+                givenPullRequest(4, "2024-02-14T09:00:00.000000+00:00"));
+        PullRequestRecencyCapFilter filter = new PullRequestRecencyCapFilter(2);
+
+        // when
+        boolean[] excluded = new boolean[4];
+        for (int id = 1; id <= 4; id++) {
+            excluded[id - 1] = filter.isExcluded(request, givenHead("feature/" + id));
+        }
+
+        // then
+        assertThat(excluded[0], is(true));
+        assertThat(excluded[1], is(false));
+        assertThat(excluded[2], is(true));
+        assertThat(excluded[3], is(false));
+        verify(request, times(1)).getPullRequests();
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testPullRequestsWithoutUpdateTimeRankLast() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(
+                givenPullRequest(7, null),
+                givenPullRequest(3, 1_700_000_000_000L),
+                givenPullRequest(9, null));
+
+        // when
+        PullRequestRecencyCapFilter filter = new PullRequestRecencyCapFilter(2);
+        boolean updated = filter.isExcluded(request, givenHead("feature/3"));
+        boolean newer = filter.isExcluded(request, givenHead("feature/9"));
+        boolean older = filter.isExcluded(request, givenHead("feature/7"));
+
+        // then
+        assertThat(updated, is(false));
+        assertThat(newer, is(false));
+        assertThat(older, is(true));
+    }
+
+    @Test
+    public void testPullRequestsUnderTheCapAreAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, 1L), givenPullRequest(2, 2L));
+
+        // when
+        PullRequestRecencyCapFilter filter = new PullRequestRecencyCapFilter(5);
+        boolean first = filter.isExcluded(request, givenHead("feature/1"));
+        boolean second = filter.isExcluded(request, givenHead("feature/2"));
+
+        // then
+        assertThat(first, is(false));
+        assertThat(second, is(false));
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, Object updatedOn) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        if (updatedOn != null) {
+            properties.put("getUpdatedOn", updatedOn);
+        }
+        return PullRequestFixtures.pullRequest(id, "Change " + id, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest... listed) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(OutputStream.nullOutputStream()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Arrays.asList(listed));
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+}
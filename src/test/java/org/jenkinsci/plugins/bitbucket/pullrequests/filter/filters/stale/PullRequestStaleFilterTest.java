@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.stale;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceRequest;
+import com.cloudbees.jenkins.plugins.bitbucket.PullRequestSCMHead;
+import com.cloudbees.jenkins.plugins.bitbucket.api.BitbucketPullRequest;
+import hudson.model.TaskListener;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PullRequestStaleFilterTest {
+
+    /**
+     * A server of its own, so the tests running in parallel never share fetches or verdicts.
+     */
+    private final String serverUrl = "https://" + UUID.randomUUID() + ".example.com";
+
+    private final ByteArrayOutputStream log = new ByteArrayOutputStream();
+
+    @Test
+    public void testStalePullRequestIsExcludedWithoutFetch() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(
+                givenPullRequest(1, Instant.now().minus(2, ChronoUnit.DAYS).toString()),
+                givenPullRequest(2, Instant.now().minus(90, ChronoUnit.DAYS).toString()),
+                givenPullRequest(3, Instant.now().minus(120, ChronoUnit.DAYS).toEpochMilli()));
+        PullRequestStaleFilter filter = new PullRequestStaleFilter(30);
+
+        // when
+        boolean recent = filter.isExcluded(request, givenHead("feature/1"));
+        boolean stale = filter.isExcluded(request, givenHead("feature/2"));
+        boolean staleMillis = filter.isExcluded(request, givenHead("feature/3"));
+
+        // then
+        assertThat(recent, is(false));
+        assertThat(stale, is(true));
+        assertThat(staleMillis, is(true));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testSkippedPullRequestsAreSummarizedOncePerScan() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(
+                givenPullRequest(1, Instant.now().minus(90, ChronoUnit.DAYS).toString()),
+                givenPullRequest(2, Instant.now().minus(1, ChronoUnit.DAYS).toString()));
+        PullRequestStaleFilter filter = new PullRequestStaleFilter(30);
+
+        // when
+        filter.isExcluded(request, givenHead("feature/1"));
+        filter.isExcluded(request, givenHead("feature/2"));
+
+        // then
+        String output = log.toString(StandardCharsets.UTF_8.name());
+        assertThat(output, containsString("Skipping 1 of 2 pull requests not updated in the last 30 days."));
+        assertThat(output.split("Skipping", -1).length, is(2));
+    }
+
+    @Test
+    public void testPullRequestWithoutUpdateTimeIsAccepted() throws Exception {
+        // given
+        BitbucketSCMSourceRequest request = givenRequest(givenPullRequest(1, null));
+
+        // when
+        boolean isExcluded = new PullRequestStaleFilter(30).isExcluded(request, givenHead("feature/1"));
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(request, never()).getPullRequestById(anyInt());
+    }
+
+    private BitbucketPullRequest givenPullRequest(int id, Object updatedOn) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("getLink", serverUrl + "/projects/PROJ/repos/repo/pull-requests/" + id);
+        if (updatedOn != null) {
+            properties.put("getUpdatedOn", updatedOn);
+        }
+        return PullRequestFixtures.pullRequest(id, "Change " + id, "feature/" + id, "master", properties);
+    }
+
+    private BitbucketSCMSourceRequest givenRequest(BitbucketPullRequest... listed) throws Exception {
+        TaskListener listener = mock(TaskListener.class);
+        when(listener.getLogger()).thenReturn(new PrintStream(log, true, StandardCharsets.UTF_8.name()));
+
+        BitbucketSCMSourceRequest request = mock(BitbucketSCMSourceRequest.class);
+        when(request.listener()).thenReturn(listener);
+        when(request.getPullRequests()).thenReturn(Arrays.asList(listed));
+        return request;
+    }
+
+    private PullRequestSCMHead givenHead(String branchName) {
+        PullRequestSCMHead head = mock(PullRequestSCMHead.class);
+        when(head.getBranchName()).thenReturn(branchName);
+        return head;
+    }
+
+}
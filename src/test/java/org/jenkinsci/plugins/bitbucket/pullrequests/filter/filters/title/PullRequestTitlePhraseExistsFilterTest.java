@@ -40,10 +40,15 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -55,6 +60,9 @@ public class PullRequestTitlePhraseExistsFilterTest {
     @Mock
     BitbucketPullRequest pullRequest;
 
+    @Mock
+    BitbucketPullRequest fullPullRequest;
+
     @Mock
     BitbucketPullRequestSource pullRequestSource;
 
@@ -73,14 +81,14 @@ public class PullRequestTitlePhraseExistsFilterTest {
     @Before
     public void setUp() throws Throwable {
         when(taskListener.getLogger()).thenReturn(logger);
-        when(pullRequest.getId()).thenReturn("1");
+        lenient().when(pullRequest.getId()).thenReturn("1");
         when(pullRequest.getSource()).thenReturn(pullRequestSource);
         when(pullRequestSource.getBranch()).thenReturn(branch);
         when(branch.getName()).thenReturn("test-branch");
         when(pullRequestSCMHead.getBranchName()).thenReturn("test-branch");
         when(scmSourceRequest.listener()).thenReturn(taskListener);
         when(scmSourceRequest.getPullRequests()).thenReturn(Arrays.asList(pullRequest));
-        when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
+        lenient().when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
     }
 
     @Test
@@ -275,6 +283,46 @@ public class PullRequestTitlePhraseExistsFilterTest {
         assertThat(isExcluded, is(false));
     }
 
+    @Test
+    public void testListedTitleIsEvaluatedWithoutFetch() throws IOException, InterruptedException {
+        // given
+        when(pullRequest.getTitle()).thenReturn("WIP: Test title");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("WIP")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+        verify(scmSourceRequest, never()).getPullRequestById(anyInt());
+    }
+
+    @Test
+    public void testMissingListedTitleIsFetched() throws IOException, InterruptedException {
+        // given
+        when(pullRequest.getTitle()).thenReturn(null);
+        when(scmSourceRequest.getPullRequestById(1)).thenReturn(fullPullRequest);
+        when(fullPullRequest.getTitle()).thenReturn("WIP: Test title");
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(givenFilter("WIP")).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(false));
+    }
+
+    @Test(timeout = 10_000)
+    public void testPatternExceedingTimeBudget() throws IOException, InterruptedException {
+        // given
+        when(pullRequest.getTitle()).thenReturn("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!");
+        StringFilter filter = new StringFilter(Collections.singletonList(Pattern.compile("(.*a){12}")), 50);
+
+        // when
+        boolean isExcluded = givenSCMHeadFilter(filter).isExcluded(scmSourceRequest, pullRequestSCMHead);
+
+        // then
+        assertThat(isExcluded, is(true));
+    }
+
     private SCMHeadFilter givenSCMHeadFilter(StringFilter filter) {
         return new PullRequestTitlePhraseExistsFilter(filter);
     }
@@ -44,6 +44,7 @@ import java.util.regex.Pattern;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -73,14 +74,14 @@ public class PullRequestTitlePhraseNotExistsFilterTest {
     @Before
     public void setUp() throws Throwable {
         when(taskListener.getLogger()).thenReturn(logger);
-        when(pullRequest.getId()).thenReturn("1");
+        lenient().when(pullRequest.getId()).thenReturn("1");
         when(pullRequest.getSource()).thenReturn(pullRequestSource);
         when(pullRequestSource.getBranch()).thenReturn(branch);
         when(branch.getName()).thenReturn("test-branch");
         when(pullRequestSCMHead.getBranchName()).thenReturn("test-branch");
         when(scmSourceRequest.listener()).thenReturn(taskListener);
         when(scmSourceRequest.getPullRequests()).thenReturn(Arrays.asList(pullRequest));
-        when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
+        lenient().when(scmSourceRequest.getPullRequestById(1)).thenReturn(pullRequest);
     }
 
     @Test
@@ -0,0 +1,162 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.harness;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSource;
+import com.cloudbees.jenkins.plugins.bitbucket.OriginPullRequestDiscoveryTrait;
+import com.cloudbees.jenkins.plugins.bitbucket.endpoints.BitbucketEndpointConfiguration;
+import com.cloudbees.jenkins.plugins.bitbucket.endpoints.BitbucketServerEndpoint;
+import hudson.model.Result;
+import jenkins.branch.BranchProperty;
+import jenkins.branch.BranchSource;
+import jenkins.branch.DefaultBranchPropertyStrategy;
+import jenkins.branch.NoTriggerBranchProperty;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits.PullRequestDescriptionFilterTrait;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits.PullRequestNameFilterTrait;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits.PullRequestSourceBranchFilterTrait;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits.PullRequestTargetBranchFilterTrait;
+import org.jenkinsci.plugins.workflow.multibranch.WorkflowMultiBranchProject;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.jvnet.hudson.test.JenkinsRule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * End-to-end indexing of a multibranch project with the filter traits against {@link BitbucketStubServer}.
+ *
+ * <p>The test is skipped unless the {@code bitbucket.loadTest} system property is set, for example
+ * {@code mvn test -Dtest=BitbucketIndexingLoadTest -Dbitbucket.loadTest=true}. The number of generated pull requests
+ * can be changed with {@code -Dbitbucket.loadTest.pullRequests=N}. Each configuration records the indexing time and
+ * the REST call count to the log and to {@code target/bitbucket-indexing-load.csv}.</p>
+ *
+ * <p>The project combines the title, source branch, target branch and description filters, each accepting every
+ * pull request but the {@code WIP} ones. The Bitbucket Server listing carries the descriptions, so the pull requests
+ * are fetched one by one only with
+ * {@code -Dorg.jenkinsci.plugins.bitbucket.pullrequests.filter.filters.AbstractPullRequestFilter.alwaysFetch=true}.</p>
+ */
+public class BitbucketIndexingLoadTest {
+
+    private static final Logger LOGGER = Logger.getLogger(BitbucketIndexingLoadTest.class.getName());
+
+    private static final boolean ENABLED = Boolean.getBoolean("bitbucket.loadTest");
+
+    private static final int PULL_REQUESTS = Integer.getInteger("bitbucket.loadTest.pullRequests", 2000);
+
+    /**
+     * Configurations to measure: latency in milliseconds and the share of failing requests.
+     */
+    private static final Object[][] CONFIGURATIONS = {
+            {0L, 0.0},
+            {20L, 0.0},
+            {20L, 0.02},
+    };
+
+    private static final List<String> RESULTS = new ArrayList<>();
+
+    @Rule
+    public JenkinsRule j = new JenkinsRule();
+
+    @BeforeClass
+    public static void assumeEnabled() {
+        assumeTrue("Load test disabled, run with -Dbitbucket.loadTest=true", ENABLED);
+        RESULTS.add("pullRequests,latencyMillis,errorRate,indexingMillis,restCalls,restErrors,jobs,result");
+    }
+
+    @AfterClass
+    public static void writeResults() throws IOException {
+        if (!ENABLED) {
+            return;
+        }
+        Path report = Paths.get("target", "bitbucket-indexing-load.csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, RESULTS, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testIndexing() throws Exception {
+        int run = 0;
+        for (Object[] configuration : CONFIGURATIONS) {
+            long latencyMillis = (Long) configuration[0];
+            double errorRate = (Double) configuration[1];
+            try (BitbucketStubServer server = new BitbucketStubServer(PULL_REQUESTS, latencyMillis, errorRate)) {
+                WorkflowMultiBranchProject project = givenProject(server, "load-" + run++);
+                server.resetCounters();
+
+                long start = System.nanoTime();
+                project.scheduleBuild2(0).getFuture().get();
+                j.waitUntilNoActivity();
+                long indexingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                Result result = project.getComputation().getResult();
+                int jobs = project.getItems().size();
+                String line = String.format("%d,%d,%.2f,%d,%d,%d,%d,%s", PULL_REQUESTS, latencyMillis, errorRate,
+                        indexingMillis, server.getCallCount(), server.getErrorCount(), jobs, result);
+                RESULTS.add(line);
+                LOGGER.log(Level.INFO, "{0} {1}", new Object[]{line, server.getCallCountByEndpoint()});
+
+                if (errorRate == 0) {
+                    assertThat(result, is(Result.SUCCESS));
+                    assertThat(jobs, is(server.getNonWipPullRequests()));
+                }
+            }
+        }
+    }
+
+    private WorkflowMultiBranchProject givenProject(BitbucketStubServer server, String name) throws IOException {
+        BitbucketEndpointConfiguration.get().addEndpoint(
+                new BitbucketServerEndpoint("Stub " + name, server.getServerUrl(), false, null));
+
+        BitbucketSCMSource source = new BitbucketSCMSource(BitbucketStubServer.PROJECT, BitbucketStubServer.REPOSITORY);
+        source.setServerUrl(server.getServerUrl());
+        source.setTraits(Arrays.asList(
+                new OriginPullRequestDiscoveryTrait(2),
+                new PullRequestNameFilterTrait(1, "WIP", true, false),
+                new PullRequestSourceBranchFilterTrait(2, "^feature/.*", false, true),
+                new PullRequestTargetBranchFilterTrait(1, "hotfix", false, false),
+                new PullRequestDescriptionFilterTrait(2, "Generated pull request", true, false)));
+
+        WorkflowMultiBranchProject project = j.createProject(WorkflowMultiBranchProject.class, name);
+        project.getSourcesList().add(new BranchSource(source,
+                new DefaultBranchPropertyStrategy(new BranchProperty[]{new NoTriggerBranchProperty()})));
+        return project;
+    }
+
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.harness;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An in-process stand-in for a Bitbucket Server instance that serves the REST endpoints used by the branch source
+ * during indexing of a single repository with a generated set of open pull requests.
+ *
+ * <p>Every pull request {@code N} originates from {@code feature/pr-N}, targets one of {@link #TARGET_BRANCHES} and
+ * every {@link #WIP_EVERY}th one carries a {@code WIP} title. Each response can be delayed by a fixed latency and a
+ * configurable share of the requests fails with {@code 500}, so the behaviour of the traits against a slow or flaky
+ * server can be measured.</p>
+ */
+public class BitbucketStubServer implements Closeable {
+
+    public static final String PROJECT = "PROJ";
+    public static final String REPOSITORY = "repo";
+    public static final String[] TARGET_BRANCHES = {"master", "develop", "release/1.x"};
+    public static final int WIP_EVERY = 3;
+
+    private static final String API_REPOSITORY_PATH = "/rest/api/1.0/projects/" + PROJECT + "/repos/" + REPOSITORY;
+    private static final Pattern PULL_REQUEST_PATH = Pattern.compile(Pattern.quote(API_REPOSITORY_PATH) + "/pull-requests/(\\d+)");
+    private static final Pattern COMMIT_PATH = Pattern.compile(Pattern.quote(API_REPOSITORY_PATH) + "/commits/(\\w+)");
+    private static final int DEFAULT_PAGE_LIMIT = 25;
+
+    private final int pullRequests;
+    private final long latencyMillis;
+    private final double errorRate;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<String, LongAdder> callsByEndpoint = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param pullRequests  the number of open pull requests to serve
+     * @param latencyMillis the delay added to each response
+     * @param errorRate     the share of requests, between {@code 0} and {@code 1}, answered with an internal error
+     * @throws IOException if the server cannot bind a local port
+     */
+    public BitbucketStubServer(int pullRequests, long latencyMillis, double errorRate) throws IOException {
+        this.pullRequests = pullRequests;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.executor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    public String getServerUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int getPullRequests() {
+        return pullRequests;
+    }
+
+    /**
+     * Returns the number of pull requests a title filter excluding {@code WIP} is expected to accept.
+     *
+     * @return the number of non-WIP pull requests
+     */
+    public int getNonWipPullRequests() {
+        return pullRequests - pullRequests / WIP_EVERY;
+    }
+
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the number of calls per endpoint, where numeric identifiers and hashes are folded into placeholders.
+     *
+     * @return a sorted snapshot of the call counts
+     */
+    public Map<String, Long> getCallCountByEndpoint() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        callsByEndpoint.forEach((endpoint, count) -> snapshot.put(endpoint, count.sum()));
+        return snapshot;
+    }
+
+    public void resetCounters() {
+        calls.reset();
+        errors.reset();
+        callsByEndpoint.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            URI uri = exchange.getRequestURI();
+            String path = uri.getPath();
+            calls.increment();
+            callsByEndpoint.computeIfAbsent(exchange.getRequestMethod() + " " + toEndpoint(path), k -> new LongAdder()).increment();
+
+            if (latencyMillis > 0) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis);
+            }
+            if (isFailing(sequence.incrementAndGet())) {
+                errors.increment();
+                respond(exchange, 500, error("Injected failure"));
+                return;
+            }
+
+            Map<String, String> query = parseQuery(uri.getRawQuery());
+            String body = route(path, query);
+            if (body == null) {
+                respond(exchange, 404, error("Not found: " + path));
+            } else {
+                respond(exchange, 200, body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, error("Interrupted"));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean isFailing(long requestNumber) {
+        if (errorRate <= 0) {
+            return false;
+        }
+        // a multiplicative hash spreads the failures evenly and keeps each run reproducible
+        long bucket = (requestNumber * 2654435761L) & 0xFFFF;
+        return bucket < errorRate * 0x10000;
+    }
+
+    private String route(String path, Map<String, String> query) {
+        if (path.equals("/rest/api/1.0/application-properties")) {
+            return "{\"version\":\"7.21.0\",\"buildNumber\":\"7021000\",\"displayName\":\"Bitbucket\"}";
+        }
+        if (path.equals("/rest/api/1.0/projects/" + PROJECT)) {
+            return project();
+        }
+        if (path.equals(API_REPOSITORY_PATH)) {
+            return repository();
+        }
+        if (path.equals(API_REPOSITORY_PATH + "/branches/default")) {
+            return branch("master", commitHash(0), true);
+        }
+        if (path.equals(API_REPOSITORY_PATH + "/branches")) {
+            String filterText = query.get("filterText");
+            if (filterText != null && !"master".contains(filterText)) {
+                return page(new StringBuilder(), 0, 0, true);
+            }
+            return page(new StringBuilder(branch("master", commitHash(0), true)), 1, 0, true);
+        }
+        if (path.equals(API_REPOSITORY_PATH + "/tags")) {
+            return page(new StringBuilder(), 0, 0, true);
+        }
+        if (path.equals(API_REPOSITORY_PATH + "/pull-requests")) {
+            return pullRequestPage(query);
+        }
+        if (path.startsWith(API_REPOSITORY_PATH + "/browse/")) {
+            return path.endsWith("/Jenkinsfile") ? "{\"type\":\"FILE\"}" : null;
+        }
+        if (path.startsWith(API_REPOSITORY_PATH + "/raw/")) {
+            return path.endsWith("/Jenkinsfile") ? "echo 'stub'" : null;
+        }
+        Matcher pullRequest = PULL_REQUEST_PATH.matcher(path);
+        if (pullRequest.matches()) {
+            int id = Integer.parseInt(pullRequest.group(1));
+            return id >= 1 && id <= pullRequests ? pullRequest(id) : null;
+        }
+        Matcher commit = COMMIT_PATH.matcher(path);
+        if (commit.matches()) {
+            return commit(commit.group(1));
+        }
+        return null;
+    }
+
+    private String pullRequestPage(Map<String, String> query) {
+        int start = parseInt(query.get("start"), 0);
+        int limit = parseInt(query.get("limit"), DEFAULT_PAGE_LIMIT);
+        int end = Math.min(pullRequests, start + limit);
+        StringBuilder values = new StringBuilder();
+        for (int id = start + 1; id <= end; id++) {
+            if (values.length() > 0) {
+                values.append(',');
+            }
+            values.append(pullRequest(id));
+        }
+        return page(values, end - start, start, end >= pullRequests);
+    }
+
+    private String page(StringBuilder values, int size, int start, boolean lastPage) {
+        return "{\"size\":" + size + ",\"limit\":" + Math.max(size, 1) + ",\"start\":" + start
+                + ",\"isLastPage\":" + lastPage + (lastPage ? "" : ",\"nextPageStart\":" + (start + size))
+                + ",\"values\":[" + values + "]}";
+    }
+
+    private String pullRequest(int id) {
+        String title = (id % WIP_EVERY == 0 ? "WIP: " : "") + "Generated change " + id;
+        String target = TARGET_BRANCHES[id % TARGET_BRANCHES.length];
+        long updated = 1_600_000_000_000L + id * 60_000L;
+        return "{\"id\":" + id + ",\"version\":0"
+                + ",\"title\":\"" + title + "\""
+                + ",\"description\":\"Generated pull request " + id + "\""
+                + ",\"state\":\"OPEN\",\"open\":true,\"closed\":false"
+                + ",\"createdDate\":" + updated + ",\"updatedDate\":" + updated
+                + ",\"fromRef\":" + ref("feature/pr-" + id, commitHash(id))
+                + ",\"toRef\":" + ref(target, commitHash(0))
+                + ",\"author\":{\"user\":" + user("user" + (id % 10)) + ",\"role\":\"AUTHOR\",\"approved\":false,\"status\":\"UNAPPROVED\"}"
+                + ",\"reviewers\":[],\"participants\":[]"
+                + ",\"links\":{\"self\":[{\"href\":\"" + getServerUrl() + "/projects/" + PROJECT + "/repos/" + REPOSITORY
+                + "/pull-requests/" + id + "\"}]}}";
+    }
+
+    private String ref(String branch, String hash) {
+        return "{\"id\":\"refs/heads/" + branch + "\",\"displayId\":\"" + branch + "\",\"type\":\"BRANCH\""
+                + ",\"latestCommit\":\"" + hash + "\",\"repository\":" + repository() + "}";
+    }
+
+    private String branch(String name, String hash, boolean isDefault) {
+        return "{\"id\":\"refs/heads/" + name + "\",\"displayId\":\"" + name + "\",\"type\":\"BRANCH\""
+                + ",\"latestCommit\":\"" + hash + "\",\"latestChangeset\":\"" + hash + "\",\"isDefault\":" + isDefault + "}";
+    }
+
+    private String commit(String hash) {
+        return "{\"id\":\"" + hash + "\",\"displayId\":\"" + hash.substring(0, Math.min(11, hash.length())) + "\""
+                + ",\"author\":" + user("user0") + ",\"authorTimestamp\":1600000000000"
+                + ",\"committer\":" + user("user0") + ",\"committerTimestamp\":1600000000000"
+                + ",\"message\":\"Generated commit\",\"parents\":[]}";
+    }
+
+    private String user(String name) {
+        return "{\"name\":\"" + name + "\",\"emailAddress\":\"" + name + "@example.com\",\"id\":1"
+                + ",\"displayName\":\"" + name + "\",\"active\":true,\"slug\":\"" + name + "\",\"type\":\"NORMAL\"}";
+    }
+
+    private String project() {
+        return "{\"key\":\"" + PROJECT + "\",\"id\":1,\"name\":\"Project\",\"public\":false,\"type\":\"NORMAL\"}";
+    }
+
+    private String repository() {
+        return "{\"slug\":\"" + REPOSITORY + "\",\"id\":1,\"name\":\"" + REPOSITORY + "\",\"scmId\":\"git\""
+                + ",\"state\":\"AVAILABLE\",\"forkable\":true,\"public\":true,\"project\":" + project()
+                + ",\"links\":{\"clone\":[{\"href\":\"" + getServerUrl() + "/scm/" + PROJECT.toLowerCase() + "/" + REPOSITORY
+                + ".git\",\"name\":\"http\"}],\"self\":[{\"href\":\"" + getServerUrl() + "/projects/" + PROJECT
+                + "/repos/" + REPOSITORY + "/browse\"}]}}";
+    }
+
+    private static String commitHash(int id) {
+        return String.format("%040x", id + 1);
+    }
+
+    private static String error(String message) {
+        return "{\"errors\":[{\"context\":null,\"message\":\"" + message.replace("\"", "'") + "\",\"exceptionName\":null}]}";
+    }
+
+    private static String toEndpoint(String path) {
+        return path.replaceAll("/[0-9a-f]{40}", "/{hash}").replaceAll("/\\d+(/|$)", "/{id}$1");
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(decode(pair.substring(0, separator)), decode(pair.substring(separator + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.rulesets;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RuleSetTest {
+
+    @Test
+    public void testFilterIsCompiledOnce() {
+        // given
+        RuleSet ruleSet = new RuleSet("release", "release/.*", false, true);
+
+        // when
+        TypeFilter<String> filter = ruleSet.getFilter();
+        TypeFilter<String> again = ruleSet.getFilter();
+
+        // then
+        assertThat(filter, notNullValue());
+        assertThat(again, sameInstance(filter));
+        assertThat(filter.accepted("release/1.x"), is(true));
+        assertThat(filter.accepted("feature/login"), is(false));
+    }
+
+    @Test
+    public void testExcludedPhrasesAreRejected() {
+        // given
+        RuleSet ruleSet = new RuleSet("release", "release/.*", false, true);
+        ruleSet.setExcludePhrase("release/0\\..*");
+
+        // when
+        boolean included = ruleSet.getFilter().accepted("release/1.x");
+        boolean excluded = ruleSet.getFilter().accepted("release/0.x");
+
+        // then
+        assertThat(included, is(true));
+        assertThat(excluded, is(false));
+    }
+
+    @Test
+    public void testInvalidPhrasesAreCompiledOnce() {
+        // given
+        RuleSet ruleSet = new RuleSet("broken", "release/(", false, true);
+
+        // when
+        TypeFilter<String> filter = ruleSet.getFilter();
+
+        // then
+        assertThat(filter, nullValue());
+        assertThat(ruleSet.getFilter(), nullValue());
+    }
+
+    @Test
+    public void testRuleSetsAreSharedByIdentifier() {
+        // given
+        RuleSet wip = new RuleSet("wip", "wip, work in progress", true, false);
+        RuleSet duplicate = new RuleSet("wip", "draft", true, false);
+        RuleSetConfiguration configuration = new RuleSetConfiguration(Arrays.asList(wip, duplicate));
+
+        // when
+        RuleSet found = configuration.getRuleSet(" wip ");
+        RuleSet missing = configuration.getRuleSet("release");
+
+        // then
+        assertThat(found, sameInstance(wip));
+        assertThat(found.getFilter(), sameInstance(configuration.getRuleSet("wip").getFilter()));
+        assertThat(found.getFilter().accepted("WIP: new login page"), is(true));
+        assertThat(missing, nullValue());
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceContext;
+import jenkins.scm.api.SCMHeadObserver;
+import jenkins.scm.api.trait.SCMSourceContext;
+import jenkins.scm.api.trait.SCMSourceTrait;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.AllocationMeter;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Hard per-call allocation ceilings of the trait {@code decorateContext} path, which runs for every trait of every
+ * job on each scan. Each call decorates a fresh context, as a scan does, and the allocation of the context itself is
+ * not counted. The phrases are compiled on the first call only, which costs about 12 kB, so the ceiling stays below
+ * it to catch a compilation on every call.
+ */
+public class PullRequestFilterTraitAllocationTest {
+
+    private static final int ITERATIONS = 1_000;
+
+    private static final long CEILING = 4 * 1024L;
+
+    @Before
+    public void setUp() {
+        assumeTrue("Allocated bytes per thread are not measurable on this JVM", AllocationMeter.isSupported());
+    }
+
+    @Test
+    public void testNameFilterTraitAllocation() {
+        // given
+        PullRequestNameFilterTrait trait = new PullRequestNameFilterTrait(1, "wip, work in progress, skip ci, ci skip", true, false);
+
+        // when
+        long bytes = givenDecoratedContextBytes(trait::decorateContext);
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(CEILING));
+    }
+
+    @Test
+    public void testSourceBranchFilterTraitAllocation() {
+        // given
+        PullRequestSourceBranchFilterTrait trait = new PullRequestSourceBranchFilterTrait(2, "^(feature|bugfix)/.*", true, true);
+
+        // when
+        long bytes = givenDecoratedContextBytes(trait::decorateContext);
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(CEILING));
+    }
+
+    @Test
+    public void testTargetBranchFilterTraitAllocation() {
+        // given
+        PullRequestTargetBranchFilterTrait trait = new PullRequestTargetBranchFilterTrait(1, "release, hotfix", true, false);
+
+        // when
+        long bytes = givenDecoratedContextBytes(trait::decorateContext);
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(CEILING));
+    }
+
+    private long givenDecoratedContextBytes(ContextDecorator decorator) {
+        long contextBytes = AllocationMeter.bytesPerCall(ITERATIONS, () -> givenContext() != null);
+        long decoratedBytes = AllocationMeter.bytesPerCall(ITERATIONS, () -> {
+            SCMSourceContext<?, ?> context = givenContext();
+            decorator.decorate(context);
+            return context != null;
+        });
+        return Math.max(0, decoratedBytes - contextBytes);
+    }
+
+    private SCMSourceContext<?, ?> givenContext() {
+        return new BitbucketSCMSourceContext(null, SCMHeadObserver.none());
+    }
+
+    /**
+     * The protected {@link SCMSourceTrait} decoration entry point, reachable from this package.
+     */
+    private interface ContextDecorator {
+        void decorate(SCMSourceContext<?, ?> context);
+    }
+
+}
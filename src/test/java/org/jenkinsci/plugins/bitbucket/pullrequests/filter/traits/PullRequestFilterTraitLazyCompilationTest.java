@@ -0,0 +1,206 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.traits;
+
+import com.cloudbees.jenkins.plugins.bitbucket.BitbucketSCMSourceContext;
+import hudson.util.XStream2;
+import jenkins.scm.api.SCMHeadObserver;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines.MatcherEngine;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines.SortedListFileMatcherEngine;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.MemoizingTypeFilter;
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Loading a trait with the job configuration compiles nothing, the patterns are compiled on first use.
+ */
+public class PullRequestFilterTraitLazyCompilationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final XStream2 xstream = new XStream2();
+
+    private final MatcherEngine engine = new SortedListFileMatcherEngine() {
+        @Override
+        protected Path getListsDirectory() {
+            return folder.getRoot().toPath();
+        }
+    };
+
+    @Test
+    public void testNameFilterTraitIsNotCompiledWhenLoaded() {
+        // given
+        PullRequestNameFilterTrait trait = new PullRequestNameFilterTrait(3, "^(WIP|Draft):.*", true, true);
+        trait.setExcludePhrase("^Draft: docs.*");
+
+        // when
+        PullRequestNameFilterTrait loaded = roundTrip(trait);
+
+        // then
+        assertThat(loaded.isFilterCompiled(), is(false));
+    }
+
+    @Test
+    public void testSourceBranchFilterTraitIsNotCompiledWhenLoaded() {
+        // given
+        PullRequestSourceBranchFilterTrait trait = new PullRequestSourceBranchFilterTrait(2, "^(feature|bugfix)/.*", true, true);
+
+        // when
+        PullRequestSourceBranchFilterTrait loaded = roundTrip(trait);
+
+        // then
+        assertThat(loaded.isFilterCompiled(), is(false));
+    }
+
+    @Test
+    public void testTargetBranchFilterTraitIsNotCompiledWhenLoaded() {
+        // given
+        PullRequestTargetBranchFilterTrait trait = new PullRequestTargetBranchFilterTrait(1, "release, hotfix", true, false);
+
+        // when
+        PullRequestTargetBranchFilterTrait loaded = roundTrip(trait);
+
+        // then
+        assertThat(loaded.isFilterCompiled(), is(false));
+    }
+
+    @Test
+    public void testFilterIsCompiledOnceOnFirstUse() {
+        // given
+        PullRequestNameFilterTrait loaded = roundTrip(new PullRequestNameFilterTrait(2, "^(WIP|Draft):.*", true, true));
+
+        // when
+        TypeFilter<String> filter = loaded.getFilter();
+        TypeFilter<String> again = loaded.getFilter();
+
+        // then
+        assertThat(loaded.isFilterCompiled(), is(true));
+        assertThat(again, sameInstance(filter));
+        assertThat(filter.accepted("wip: new login page"), is(true));
+        assertThat(filter.accepted("New login page"), is(false));
+    }
+
+    @Test
+    public void testCompiledFilterIsNotSaved() {
+        // given
+        PullRequestSourceBranchFilterTrait trait = new PullRequestSourceBranchFilterTrait(1, "^(feature|bugfix)/.*", true, true);
+        TypeFilter<String> filter = trait.getFilter();
+
+        // when
+        PullRequestSourceBranchFilterTrait loaded = roundTrip(trait);
+
+        // then
+        assertThat(trait.isFilterCompiled(), is(true));
+        assertThat(loaded.isFilterCompiled(), is(false));
+        assertThat(loaded.getFilter(), not(sameInstance(filter)));
+    }
+
+    @Test
+    public void testInvalidPhraseIsCompiledOnFirstUse() {
+        // given
+        PullRequestTargetBranchFilterTrait loaded = roundTrip(new PullRequestTargetBranchFilterTrait(2, "release/(", false, true));
+
+        // when
+        TypeFilter<String> filter = loaded.getFilter();
+
+        // then
+        assertThat(filter, nullValue());
+        assertThat(loaded.isFilterCompiled(), is(true));
+    }
+
+    @Test
+    public void testTargetBranchFilterKeepsItsVerdictsAcrossScans() {
+        // given
+        PullRequestTargetBranchFilterTrait loaded = roundTrip(new PullRequestTargetBranchFilterTrait(2, "release, hotfix", true, false));
+
+        // when
+        TypeFilter<String> filter = loaded.getFilter();
+        filter.accepted("release");
+        TypeFilter<String> again = loaded.getFilter();
+
+        // then
+        assertThat(again, sameInstance(filter));
+        assertThat(((MemoizingTypeFilter<String>) again).size(), is(1));
+    }
+
+    @Test
+    public void testTargetBranchFilterFollowsTheReloadedListFile() throws Exception {
+        // given
+        write("frozen", "release/1.x\n");
+        PullRequestTargetBranchFilterTrait trait = new PullRequestTargetBranchFilterTrait(2, "frozen", false, false) {
+            @Override
+            protected TypeFilter<String> createEngineFilter() {
+                return engine.create(getPhrase(), isIgnoreCase(), isRegex());
+            }
+        };
+        trait.setEngineId(SortedListFileMatcherEngine.ID);
+        boolean before = trait.getFilter().accepted("release/1.x");
+
+        // when
+        write("frozen", "release/2.x\nrelease/3.x\n");
+        Thread.sleep(1500);
+        boolean after = trait.getFilter().accepted("release/1.x");
+
+        // then
+        assertThat(before, is(true));
+        assertThat(after, is(false));
+    }
+
+    @Test
+    public void testDisabledStrategyCompilesNothing() {
+        // given
+        PullRequestTargetBranchFilterTrait loaded = roundTrip(new PullRequestTargetBranchFilterTrait(0, "release, hotfix", true, false));
+
+        // when
+        loaded.decorateContext(new BitbucketSCMSourceContext(null, SCMHeadObserver.none()));
+
+        // then
+        assertThat(loaded.isFilterCompiled(), is(false));
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path temporary = folder.newFile(name + ".tmp").toPath();
+        Files.write(temporary, content.getBytes(StandardCharsets.UTF_8));
+        Files.move(temporary, folder.getRoot().toPath().resolve(name), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T roundTrip(T trait) {
+        return (T) xstream.fromXML(xstream.toXML(trait));
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class FetchExecutorTest {
+
+    @Test(timeout = 10_000)
+    public void testVirtualThreadsWhenSupported() throws Exception {
+        // given
+        FetchExecutor executor = FetchExecutor.create(true);
+        boolean supported = Runtime.version().feature() >= 21;
+
+        // when
+        Future<String> result = executor.submit(() -> Thread.currentThread().toString());
+
+        // then
+        assertThat(executor.isVirtual(), is(supported));
+        assertThat(executor.getDescription(), startsWith(supported ? "virtual threads" : FetchExecutor.POOL_SIZE + " platform threads"));
+        assertThat(result.get(), supported ? containsString("VirtualThread") : containsString("Bitbucket pull request fetch"));
+    }
+
+    @Test(timeout = 10_000)
+    public void testBoundedPoolFallback() throws Exception {
+        // given
+        FetchExecutor executor = FetchExecutor.create(false);
+
+        // when
+        Future<Boolean> result = executor.submit(() -> Thread.currentThread().isDaemon());
+
+        // then
+        assertThat(executor.isVirtual(), is(false));
+        assertThat(executor.getDescription(), is(FetchExecutor.POOL_SIZE + " platform threads, up to "
+                + Math.min(FetchExecutor.POOL_SIZE, FetchExecutor.MAX_CONCURRENCY) + " concurrent fetches"));
+        assertThat(result.get(), is(true));
+    }
+
+}
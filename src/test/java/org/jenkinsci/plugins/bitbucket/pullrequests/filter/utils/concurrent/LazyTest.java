@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LazyTest {
+
+    @Test
+    public void testValueIsComputedOnFirstAccess() {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        Lazy<String> lazy = new Lazy<>(() -> "value-" + computations.incrementAndGet());
+
+        // when
+        boolean initializedBefore = lazy.isInitialized();
+        String value = lazy.get();
+        String again = lazy.get();
+
+        // then
+        assertThat(initializedBefore, is(false));
+        assertThat(lazy.isInitialized(), is(true));
+        assertThat(value, is("value-1"));
+        assertThat(again, sameInstance(value));
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    public void testNullValueIsComputedOnce() {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        Lazy<String> lazy = new Lazy<>(() -> {
+            computations.incrementAndGet();
+            return null;
+        });
+
+        // when
+        lazy.get();
+        String value = lazy.get();
+
+        // then
+        assertThat(value, nullValue());
+        assertThat(lazy.isInitialized(), is(true));
+        assertThat(computations.get(), is(1));
+    }
+
+    @Test
+    public void testConcurrentFirstAccessesComputeOnce() throws InterruptedException {
+        // given
+        AtomicInteger computations = new AtomicInteger();
+        Lazy<Object> lazy = new Lazy<>(() -> {
+            computations.incrementAndGet();
+            return new Object();
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        List<Object> values = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                Object value = lazy.get();
+                synchronized (values) {
+                    values.add(value);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(computations.get(), is(1));
+        assertThat(values.size(), is(16));
+        for (Object value : values) {
+            assertThat(value, sameInstance(values.get(0)));
+        }
+    }
+
+}
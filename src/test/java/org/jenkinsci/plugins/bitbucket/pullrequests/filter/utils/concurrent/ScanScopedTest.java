@@ -0,0 +1,103 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ScanScopedTest {
+
+    private final ScanScoped<String> scoped = new ScanScoped<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10_000)
+    public void testSlowCreationDoesNotHoldUpOtherScans() throws Exception {
+        // given
+        Object slowScan = new Object();
+        Object otherScan = new Object();
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = executor.submit(() -> scoped.create(slowScan, () -> {
+            creating.countDown();
+            release.await();
+            return "slow";
+        }));
+        creating.await();
+
+        // when
+        String other = scoped.create(otherScan, () -> "other");
+
+        // then
+        assertThat(other, is("other"));
+        assertThat(slow.isDone(), is(false));
+        release.countDown();
+        assertThat(slow.get(), is("slow"));
+    }
+
+    @Test(timeout = 10_000)
+    public void testStateIsCreatedOncePerScan() throws Exception {
+        // given
+        Object scan = new Object();
+        AtomicInteger creations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return scoped.create(scan, () -> {
+                    creations.incrementAndGet();
+                    TimeUnit.MILLISECONDS.sleep(50);
+                    return "state";
+                });
+            }));
+        }
+
+        // when
+        start.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(), is("state"));
+        }
+        assertThat(creations.get(), is(1));
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.concurrent;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10_000)
+    public void testConcurrentCallsAreCoalesced() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Call<String> call = () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "PR-1";
+        };
+
+        // when
+        List<Future<String>> results = submitCallers("PR-1", call);
+        awaitWaitingCallers();
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(), is("PR-1"));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test(timeout = 10_000)
+    public void testDifferentKeysAreNotCoalesced() throws Exception {
+        // when
+        String first = singleFlight.execute("PR-1", () -> "PR-1");
+        String second = singleFlight.execute("PR-2", () -> "PR-2");
+
+        // then
+        assertThat(first, is("PR-1"));
+        assertThat(second, is("PR-2"));
+    }
+
+    @Test(timeout = 10_000)
+    public void testCompletedCallIsNotCached() throws Exception {
+        // when
+        singleFlight.execute("PR-1", () -> "PR-1 v" + calls.incrementAndGet());
+        String result = singleFlight.execute("PR-1", () -> "PR-1 v" + calls.incrementAndGet());
+
+        // then
+        assertThat(result, is("PR-1 v2"));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test(timeout = 10_000)
+    public void testFailureIsSharedWithWaitingCallers() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        IOException failure = new IOException("Bitbucket is unavailable");
+        SingleFlight.Call<String> call = () -> {
+            calls.incrementAndGet();
+            release.await();
+            throw failure;
+        };
+
+        // when
+        List<Future<String>> results = submitCallers("PR-1", call);
+        awaitWaitingCallers();
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            Throwable cause = null;
+            try {
+                result.get();
+            } catch (Exception e) {
+                cause = e.getCause();
+            }
+            assertThat(cause, instanceOf(IOException.class));
+            assertThat(cause == failure || cause.getCause() == failure, is(true));
+        }
+        assertThat(calls.get(), is(1));
+        assertThat(singleFlight.inFlight(), is(0));
+    }
+
+    @Test(timeout = 10_000)
+    public void testWaitingCallerRetriesWhenInterruptedCallerGivesUp() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> interrupted = executor.submit(() -> singleFlight.execute("PR-1", () -> {
+            started.countDown();
+            release.await();
+            throw new InterruptedException();
+        }));
+        started.await();
+        Future<String> waiter = executor.submit(() -> {
+            waiting.incrementAndGet();
+            return singleFlight.execute("PR-1", () -> "PR-1 retried");
+        });
+        awaitWaitingCallers(1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThat(waiter.get(), is("PR-1 retried"));
+        Throwable cause = null;
+        try {
+            interrupted.get();
+        } catch (Exception e) {
+            cause = e.getCause();
+        }
+        assertThat(cause, instanceOf(InterruptedException.class));
+    }
+
+    private List<Future<String>> submitCallers(String key, SingleFlight.Call<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                waiting.incrementAndGet();
+                return singleFlight.execute(key, call);
+            }));
+        }
+        return results;
+    }
+
+    private void awaitWaitingCallers() throws InterruptedException {
+        awaitWaitingCallers(CALLERS);
+    }
+
+    /**
+     * Waits until the callers entered, then gives them time to block on the call in flight.
+     */
+    private void awaitWaitingCallers(int callers) throws InterruptedException {
+        while (waiting.get() < callers || singleFlight.inFlight() == 0) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(100);
+    }
+
+}
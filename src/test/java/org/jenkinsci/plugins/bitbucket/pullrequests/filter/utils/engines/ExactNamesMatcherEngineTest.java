@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExactNamesMatcherEngineTest {
+
+    private final MatcherEngine engine = new ExactNamesMatcherEngine();
+
+    @Test
+    public void testWholeNamesAreMatched() {
+        // given
+        TypeFilter<String> filter = engine.create("release/1.x\nrelease/2.x\nhotfix/urgent", false, false);
+
+        // when
+        boolean listed = filter.accepted("release/2.x");
+        boolean prefix = filter.accepted("release/2");
+        boolean otherCase = filter.accepted("Release/2.x");
+
+        // then
+        assertThat(listed, is(true));
+        assertThat(prefix, is(false));
+        assertThat(otherCase, is(false));
+    }
+
+    @Test
+    public void testExcludedNamesAreRejected() {
+        // given
+        TypeFilter<String> filter = engine.create("main, develop, release/1.x", "release/1.x", true, false);
+
+        // when
+        boolean included = filter.accepted("MAIN");
+        boolean excluded = filter.accepted("release/1.x");
+        boolean other = filter.accepted("feature/login");
+
+        // then
+        assertThat(included, is(true));
+        assertThat(excluded, is(false));
+        assertThat(other, is(false));
+    }
+
+    @Test
+    public void testOnlyExcludedNamesAcceptOthers() {
+        // given
+        TypeFilter<String> filter = engine.create("", "release/1.x", true, false);
+
+        // when
+        boolean excluded = filter.accepted("release/1.x");
+        boolean other = filter.accepted("feature/login");
+
+        // then
+        assertThat(filter.canFilter(), is(true));
+        assertThat(excluded, is(false));
+        assertThat(other, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegularExpressionsAreRejected() {
+        engine.create("release/.*", true, true);
+    }
+
+}
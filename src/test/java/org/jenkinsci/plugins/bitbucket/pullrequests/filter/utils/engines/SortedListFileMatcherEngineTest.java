@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.engines;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters.TypeFilter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SortedListFileMatcherEngineTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final MatcherEngine engine = new SortedListFileMatcherEngine() {
+        @Override
+        protected Path getListsDirectory() {
+            return folder.getRoot().toPath();
+        }
+    };
+
+    @Test
+    public void testNamesOfAnyListAreMatched() throws IOException {
+        // given
+        write("blocked", "feature/a\nfeature/b\n");
+        write("frozen", "release/1.x\n");
+        TypeFilter<String> filter = engine.create("blocked, frozen", false, false);
+
+        // when
+        boolean first = filter.accepted("feature/b");
+        boolean second = filter.accepted("release/1.x");
+        boolean other = filter.accepted("feature/c");
+
+        // then
+        assertThat(filter.canFilter(), is(true));
+        assertThat(first, is(true));
+        assertThat(second, is(true));
+        assertThat(other, is(false));
+    }
+
+    @Test
+    public void testNamesAreLookedUpInLowerCase() throws IOException {
+        // given
+        write("blocked", "feature/a\n");
+        TypeFilter<String> filter = engine.create("blocked", true, false);
+
+        // when
+        boolean otherCase = filter.accepted("Feature/A");
+
+        // then
+        assertThat(otherCase, is(true));
+    }
+
+    @Test
+    public void testMissingListsDoNotFilter() {
+        // given
+        TypeFilter<String> filter = engine.create("missing", false, false);
+
+        // when
+        boolean accepted = filter.accepted("feature/a");
+
+        // then
+        assertThat(filter.canFilter(), is(false));
+        assertThat(accepted, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testListsOutsideOfTheDirectoryAreRejected() {
+        engine.create("../secrets", false, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegularExpressionsAreRejected() {
+        engine.create("blocked", false, true);
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(folder.getRoot().toPath().resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
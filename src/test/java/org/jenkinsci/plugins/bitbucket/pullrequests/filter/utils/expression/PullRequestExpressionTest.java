@@ -0,0 +1,181 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.expression;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.PullRequestFixtures;
+import org.junit.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PullRequestExpressionTest {
+
+    private static final String EXPRESSION = "target ~ \"release/.*\" && !(title has \"WIP,DRAFT\") && source !~ \"dependabot/.*\"";
+
+    @Test
+    public void testAcceptedPullRequest() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(EXPRESSION);
+
+        // when
+        boolean accepted = expression.accepted(givenFields("feature/parser", "release/1.0", "New parser"));
+
+        // then
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testExcludedPullRequests() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(EXPRESSION);
+
+        // when
+        boolean wrongTarget = expression.accepted(givenFields("feature/parser", "master", "New parser"));
+        boolean draft = expression.accepted(givenFields("feature/parser", "release/1.0", "Draft: New parser"));
+        boolean bot = expression.accepted(givenFields("dependabot/maven/junit", "release/1.0", "Bump junit"));
+
+        // then
+        assertThat(wrongTarget, is(false));
+        assertThat(draft, is(false));
+        assertThat(bot, is(false));
+    }
+
+    @Test
+    public void testAndBindsTighterThanOr() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(
+                "source ~ \"hotfix/.*\" || target ~ \"master\" && title !has \"wip\"");
+
+        // when
+        boolean hotfix = expression.accepted(givenFields("hotfix/1", "develop", "WIP: fix"));
+        boolean wip = expression.accepted(givenFields("feature/1", "master", "WIP: change"));
+
+        // then
+        assertThat(hotfix, is(true));
+        assertThat(wip, is(false));
+    }
+
+    @Test
+    public void testBranchConditionsAreEvaluatedFirst() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(
+                "title has \"wip\" && (title has \"draft\" || source ~ \"feature/.*\") && target ~ \"master\"");
+
+        // when
+        String description = expression.toString();
+
+        // then
+        assertThat(description, is("target ~ \"master\" && title has \"wip\" && (source ~ \"feature/.*\" || title has \"draft\")"));
+    }
+
+    @Test
+    public void testBranchesDecideWithoutTitle() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(EXPRESSION);
+        PullRequestFields wrongTarget = givenFields("feature/parser", "master", null);
+        PullRequestFields rightTarget = givenFields("feature/parser", "release/1.0", null);
+
+        // when
+        Boolean wrongTargetVerdict = expression.evaluate(wrongTarget);
+        Boolean rightTargetVerdict = expression.evaluate(rightTarget);
+
+        // then
+        assertThat(wrongTargetVerdict, is(false));
+        assertThat(expression.isDecidable(wrongTarget), is(true));
+        assertThat(rightTargetVerdict, nullValue());
+        assertThat(expression.isDecidable(rightTarget), is(false));
+    }
+
+    @Test
+    public void testListedPullRequestFields() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(EXPRESSION);
+        PullRequestFields fields = PullRequestFields.of(
+                PullRequestFixtures.pullRequest(1, "New parser", "feature/parser", "release/1.0"));
+
+        // when
+        boolean accepted = expression.accepted(fields);
+
+        // then
+        assertThat(expression.isDecidable(fields), is(true));
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testQuotedStrings() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile("title ~ \"Fix \\\"\\w+\\\"\"");
+
+        // when
+        boolean accepted = expression.accepted(givenFields("bugfix/1", "master", "Fix \"parser\""));
+
+        // then
+        assertThat(accepted, is(true));
+        assertThat(expression.getPatterns().get(0).pattern(), is("Fix \"\\w+\""));
+    }
+
+    @Test
+    public void testOnlyRegularExpressionsAreReviewed() {
+        // given
+        PullRequestExpression expression = PullRequestExpression.compile(EXPRESSION);
+
+        // when
+        int patterns = expression.getPatterns().size();
+
+        // then
+        assertThat(patterns, is(2));
+    }
+
+    @Test
+    public void testSyntaxErrors() {
+        assertThat(givenSyntaxError(""), notNullValue());
+        assertThat(givenSyntaxError("branch ~ \"master\"").getMessage(), containsString("Unknown field 'branch'"));
+        assertThat(givenSyntaxError("target = \"master\"").getPosition(), is(7));
+        assertThat(givenSyntaxError("target ~ \"master").getMessage(), containsString("Unterminated string"));
+        assertThat(givenSyntaxError("(target ~ \"master\"").getMessage(), containsString("Expected ')'"));
+        assertThat(givenSyntaxError("target ~ \"master\" source ~ \"a\"").getPosition(), is(18));
+        assertThat(givenSyntaxError("target ~ \"(master\"").getMessage(), containsString("Invalid regular expression"));
+    }
+
+    private static ExpressionSyntaxException givenSyntaxError(String expression) {
+        try {
+            PullRequestExpression.compile(expression);
+        } catch (ExpressionSyntaxException e) {
+            return e;
+        }
+        return null;
+    }
+
+    private static PullRequestFields givenFields(String source, String target, String title) {
+        Map<PullRequestField, String> values = new EnumMap<>(PullRequestField.class);
+        values.put(PullRequestField.SOURCE, source);
+        values.put(PullRequestField.TARGET, target);
+        values.put(PullRequestField.TITLE, title);
+        return PullRequestFields.of(values);
+    }
+
+}
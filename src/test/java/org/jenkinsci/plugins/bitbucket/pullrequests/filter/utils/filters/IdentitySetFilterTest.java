@@ -0,0 +1,111 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class IdentitySetFilterTest {
+
+    @Test
+    public void testIdentitiesAreComparedIgnoringCase() {
+        // given
+        IdentitySetFilter filter = new IdentitySetFilter("dependabot, Renovate-Bot;\njenkins@example.com\n");
+
+        // when
+        boolean renovate = filter.accepted("renovate-bot");
+        boolean email = filter.accepted("Jenkins@Example.com");
+        boolean human = filter.accepted("jdoe");
+
+        // then
+        assertThat(filter.getIdentities(), hasSize(3));
+        assertThat(renovate, is(true));
+        assertThat(email, is(true));
+        assertThat(human, is(false));
+    }
+
+    @Test
+    public void testAnyIdentityOfTheUser() {
+        // given
+        IdentitySetFilter filter = new IdentitySetFilter("jenkins@example.com");
+
+        // when
+        boolean accepted = filter.acceptedAny(Arrays.asList("jenkins", null, "jenkins@example.com"));
+
+        // then
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testEmptySetAcceptsEverything() {
+        // given
+        IdentitySetFilter filter = new IdentitySetFilter(" , ");
+
+        // when
+        boolean accepted = filter.accepted(null);
+
+        // then
+        assertThat(filter.canFilter(), is(false));
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testLargeSetHasShortDescription() {
+        // given
+        StringBuilder identities = new StringBuilder();
+        for (int i = 0; i < 5_000; i++) {
+            identities.append("user").append(i).append('\n');
+        }
+
+        // when
+        IdentitySetFilter filter = new IdentitySetFilter(identities.toString());
+        IdentitySetFilter reordered = new IdentitySetFilter("user1, user0, " + identities);
+
+        // then
+        assertThat(filter.accepted("USER4999"), is(true));
+        assertThat(filter.toString().length(), lessThan(64));
+        assertThat(reordered.toString(), is(filter.toString()));
+        assertThat(new IdentitySetFilter("user0").toString(), not(filter.toString()));
+    }
+
+    @Test
+    public void testCaseSensitiveSet() {
+        // given
+        IdentitySetFilter filter = new IdentitySetFilter("Release/1.x, main", false);
+
+        // when
+        boolean exact = filter.accepted("Release/1.x");
+        boolean otherCase = filter.accepted("release/1.x");
+
+        // then
+        assertThat(exact, is(true));
+        assertThat(otherCase, is(false));
+        assertThat(filter.toString(), not(new IdentitySetFilter("Release/1.x, main").toString()));
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class IncludeExcludeStringFilterTest {
+
+    private static final List<String> BRANCHES = Arrays.asList(
+            "release/1.0", "release/legacy-0.9", "RELEASE/2.0", "master", "Release/Legacy", null);
+
+    @Test
+    public void testIncludedUnlessExcluded() {
+        // given
+        IncludeExcludeStringFilter filter = givenFilter("release/.*", "release/legacy.*");
+
+        // when
+        boolean release = filter.accepted("release/1.0");
+        boolean legacy = filter.accepted("release/legacy-0.9");
+        boolean master = filter.accepted("master");
+
+        // then
+        assertThat(filter.isCombined(), is(true));
+        assertThat(release, is(true));
+        assertThat(legacy, is(false));
+        assertThat(master, is(false));
+    }
+
+    @Test
+    public void testEmptyIncludeAcceptsEverythingNotExcluded() {
+        // given
+        IncludeExcludeStringFilter filter = givenFilter(null, "release/legacy.*");
+
+        // when
+        boolean master = filter.accepted("master");
+        boolean legacy = filter.accepted("release/legacy-0.9");
+
+        // then
+        assertThat(filter.canFilter(), is(true));
+        assertThat(filter.isCombined(), is(true));
+        assertThat(master, is(true));
+        assertThat(legacy, is(false));
+    }
+
+    @Test
+    public void testEmptyFilterAcceptsEverything() {
+        // given
+        IncludeExcludeStringFilter filter = givenFilter(null, null);
+
+        // when
+        boolean accepted = filter.accepted("master");
+
+        // then
+        assertThat(filter.canFilter(), is(false));
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testFlagsOfEachPatternArePreserved() {
+        // given
+        IncludeExcludeStringFilter filter = new IncludeExcludeStringFilter(
+                new StringFilter(Pattern.compile("release/.*", Pattern.CASE_INSENSITIVE)),
+                new StringFilter(Pattern.compile("release/legacy.*")));
+
+        // when
+        boolean upperCase = filter.accepted("RELEASE/2.0");
+        boolean excludedCaseSensitive = filter.accepted("Release/Legacy");
+        boolean excluded = filter.accepted("release/legacy-0.9");
+
+        // then
+        assertThat(filter.isCombined(), is(true));
+        assertThat(upperCase, is(true));
+        assertThat(excludedCaseSensitive, is(true));
+        assertThat(excluded, is(false));
+    }
+
+    @Test
+    public void testPhrasesAreCombined() {
+        // given
+        IncludeExcludeStringFilter filter = new IncludeExcludeStringFilter(
+                new StringFilter("wip, draft", true), new StringFilter("ready for review", true));
+
+        // when
+        boolean wip = filter.accepted("WIP: new parser");
+        boolean ready = filter.accepted("Draft - ready for review");
+
+        // then
+        assertThat(filter.isCombined(), is(true));
+        assertThat(wip, is(true));
+        assertThat(ready, is(false));
+    }
+
+    @Test
+    public void testBackReferenceIsEvaluatedSeparately() {
+        // given
+        IncludeExcludeStringFilter filter = givenFilter("(\\w+)-\\1", "(abc)-.*");
+
+        // when
+        boolean repeated = filter.accepted("foo-foo");
+        boolean different = filter.accepted("foo-bar");
+        boolean excluded = filter.accepted("abc-abc");
+
+        // then
+        assertThat(filter.isCombined(), is(false));
+        assertThat(repeated, is(true));
+        assertThat(different, is(false));
+        assertThat(excluded, is(false));
+    }
+
+    @Test
+    public void testClashingNamedGroupsAreEvaluatedSeparately() {
+        // given
+        IncludeExcludeStringFilter filter = givenFilter("(?<name>release)/.*", "(?<name>release)/legacy.*");
+
+        // when
+        boolean release = filter.accepted("release/1.0");
+        boolean legacy = filter.accepted("release/legacy-0.9");
+
+        // then
+        assertThat(filter.isCombined(), is(false));
+        assertThat(release, is(true));
+        assertThat(legacy, is(false));
+    }
+
+    @Test
+    public void testBatchMatchesSingleEvaluation() {
+        // given
+        IncludeExcludeStringFilter filter = new IncludeExcludeStringFilter(
+                Collections.singletonList(Pattern.compile("release/.*", Pattern.CASE_INSENSITIVE)),
+                Collections.singletonList(Pattern.compile("release/legacy.*", Pattern.CASE_INSENSITIVE)), 0);
+
+        // when
+        boolean[] accepted = filter.acceptedAll(BRANCHES);
+
+        // then
+        for (int i = 0; i < accepted.length; i++) {
+            assertThat(BRANCHES.get(i), accepted[i], is(filter.accepted(BRANCHES.get(i))));
+        }
+        assertThat(accepted[0], is(true));
+        assertThat(accepted[1], is(false));
+        assertThat(accepted[2], is(true));
+        assertThat(accepted[4], is(false));
+        assertThat(accepted[5], is(false));
+    }
+
+    @Test
+    public void testUnterminatedQuoteIsNotEmbedded() {
+        // given
+        String regex = "\\Qrelease/";
+
+        // when
+        boolean embeddable = IncludeExcludeStringFilter.isEmbeddable(regex);
+
+        // then
+        assertThat(embeddable, is(false));
+        assertThat(IncludeExcludeStringFilter.isEmbeddable("\\Q\\1\\E-\\\\1"), is(true));
+    }
+
+    private IncludeExcludeStringFilter givenFilter(String include, String exclude) {
+        return new IncludeExcludeStringFilter(
+                new StringFilter(include != null ? Pattern.compile(include) : null),
+                new StringFilter(exclude != null ? Pattern.compile(exclude) : null));
+    }
+
+}
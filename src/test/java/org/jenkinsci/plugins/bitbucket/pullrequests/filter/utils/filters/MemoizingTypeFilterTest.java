@@ -0,0 +1,140 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MemoizingTypeFilterTest {
+
+    private final AtomicInteger evaluations = new AtomicInteger();
+
+    @Test
+    public void testRepeatedValuesAreEvaluatedOnce() {
+        // given
+        MemoizingTypeFilter<String> filter = new MemoizingTypeFilter<>(givenCountingFilter("^(master|release/.*)$"), 16);
+
+        // when
+        int accepted = 0;
+        for (int i = 0; i < 1_000; i++) {
+            String target = i % 3 == 0 ? "master" : i % 3 == 1 ? "develop" : "release/1.x";
+            if (filter.accepted(target)) {
+                accepted++;
+            }
+        }
+
+        // then
+        assertThat(accepted, is(667));
+        assertThat(evaluations.get(), is(3));
+        assertThat(filter.size(), is(3));
+    }
+
+    @Test
+    public void testCapacityIsBounded() {
+        // given
+        MemoizingTypeFilter<String> filter = new MemoizingTypeFilter<>(givenCountingFilter("^release/.*$"), 8);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            filter.accepted("release/" + i);
+        }
+
+        // then
+        assertThat(filter.size(), lessThanOrEqualTo(8));
+        assertThat(filter.accepted("release/100"), is(true));
+        assertThat(filter.accepted("master"), is(false));
+    }
+
+    @Test
+    public void testNullIsNotRemembered() {
+        // given
+        MemoizingTypeFilter<String> filter = new MemoizingTypeFilter<>(givenCountingFilter("^master$"), 8);
+
+        // when
+        boolean first = filter.accepted(null);
+        boolean second = filter.accepted(null);
+
+        // then
+        assertThat(first, is(false));
+        assertThat(second, is(false));
+        assertThat(evaluations.get(), is(2));
+        assertThat(filter.size(), is(0));
+    }
+
+    @Test(timeout = 10_000)
+    public void testTimeoutIsNotRemembered() {
+        // given
+        String data = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+        MemoizingTypeFilter<String> filter = new MemoizingTypeFilter<>(
+                new StringFilter(Collections.singletonList(Pattern.compile("(.*a){12}")), 50), 8);
+
+        // when
+        int timeouts = 0;
+        for (int i = 0; i < 2; i++) {
+            try {
+                filter.accepted(data);
+            } catch (RegexTimeoutException e) {
+                timeouts++;
+            }
+        }
+
+        // then
+        assertThat(timeouts, is(2));
+        assertThat(filter.size(), is(0));
+    }
+
+    @Test
+    public void testOfNullFilter() {
+        // when
+        TypeFilter<String> filter = MemoizingTypeFilter.of(null);
+
+        // then
+        assertThat(filter, nullValue());
+    }
+
+    private TypeFilter<String> givenCountingFilter(String regex) {
+        StringFilter filter = new StringFilter(Pattern.compile(regex));
+        return new TypeFilter<String>() {
+
+            @Override
+            public boolean canFilter() {
+                return filter.canFilter();
+            }
+
+            @Override
+            public boolean accepted(String data) {
+                evaluations.incrementAndGet();
+                return filter.accepted(data);
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RegexComplexityAnalyzerTest {
+
+    @Test
+    public void testNestedQuantifiers() {
+        // when
+        RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze("(a+)+b", 0);
+
+        // then
+        assertThat(report.hasWarnings(), is(true));
+        assertThat(report.getComplexity(), is(RegexComplexityAnalyzer.Complexity.EXPONENTIAL));
+        assertThat(report.getSummary(), containsString("nested quantifiers in '(a+)+'"));
+        assertThat(report.getEstimatedCost(), is("O(2^n)"));
+    }
+
+    @Test
+    public void testOverlappingAlternation() {
+        // when
+        RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze("(fix|fixup)*-", 0);
+
+        // then
+        assertThat(report.getComplexity(), is(RegexComplexityAnalyzer.Complexity.EXPONENTIAL));
+        assertThat(report.getSummary(), containsString("overlapping alternatives"));
+    }
+
+    @Test
+    public void testCaseInsensitiveOverlappingAlternation() {
+        // when
+        RegexComplexityAnalyzer.Report sensitive = RegexComplexityAnalyzer.analyze("(a|A)*-", 0);
+        RegexComplexityAnalyzer.Report insensitive = RegexComplexityAnalyzer.analyze("(a|A)*-", Pattern.CASE_INSENSITIVE);
+
+        // then
+        assertThat(sensitive.hasWarnings(), is(false));
+        assertThat(insensitive.hasWarnings(), is(true));
+    }
+
+    @Test
+    public void testUnanchoredWildcardPrefix() {
+        // when
+        RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze(".*a.*b.*c", 0);
+
+        // then
+        assertThat(report.getComplexity(), is(RegexComplexityAnalyzer.Complexity.POLYNOMIAL));
+        assertThat(report.getEstimatedCost(), is("O(n^3)"));
+        assertThat(report.getSummary(), containsString("unanchored leading '.*'"));
+    }
+
+    @Test
+    public void testBenchmarkOfRepeatedWildcardGroup() {
+        // when
+        RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze("(.*a){12}", 0);
+
+        // then
+        assertThat(report.getComplexity(), is(RegexComplexityAnalyzer.Complexity.POLYNOMIAL));
+        assertThat(report.getEstimatedCost(), is("O(n^12)"));
+        assertThat(report.isBenchmarkExceeded(), is(true));
+    }
+
+    @Test
+    public void testDelimitedRepetition() {
+        // when
+        RegexComplexityAnalyzer.Report report = RegexComplexityAnalyzer.analyze("[a-z]+(-[a-z]+)*", 0);
+
+        // then
+        assertThat(report.hasWarnings(), is(false));
+        assertThat(report.getComplexity(), is(RegexComplexityAnalyzer.Complexity.LINEAR));
+    }
+
+    @Test
+    public void testPossessiveAndAtomicGroups() {
+        // when
+        RegexComplexityAnalyzer.Report possessive = RegexComplexityAnalyzer.analyze("(a++)+b", 0);
+        RegexComplexityAnalyzer.Report atomic = RegexComplexityAnalyzer.analyze("(?>a+)+b", 0);
+
+        // then
+        assertThat(possessive.hasWarnings(), is(false));
+        assertThat(atomic.hasWarnings(), is(false));
+    }
+
+    @Test
+    public void testCommonBranchPatterns() {
+        // when
+        RegexComplexityAnalyzer.Report prefix = RegexComplexityAnalyzer.analyze("^(feature|bugfix)/.*", 0);
+        RegexComplexityAnalyzer.Report lookahead = RegexComplexityAnalyzer.analyze("release/(?!legacy).*", 0);
+        RegexComplexityAnalyzer.Report quoted = RegexComplexityAnalyzer.analyze("\\Q(a+)+\\E", 0);
+
+        // then
+        assertThat(prefix.hasWarnings(), is(false));
+        assertThat(lookahead.hasWarnings(), is(false));
+        assertThat(quoted.hasWarnings(), is(false));
+        assertThat(prefix.getSummary(), is(""));
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void testInvalidPattern() {
+        // when
+        RegexComplexityAnalyzer.analyze("(a+", 0);
+    }
+
+}
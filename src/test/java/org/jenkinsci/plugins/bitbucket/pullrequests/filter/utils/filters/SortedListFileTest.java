@@ -0,0 +1,152 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class SortedListFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testListedNamesAreFound() throws IOException {
+        // given
+        Path path = write("blocked", "# blocked branches\nfeature/a\nfeature/b\r\n\nhotfix/x  \nrelease/1.x\n", 1000L);
+        SortedListFile file = new SortedListFile(path, 0L);
+
+        // when
+        boolean listed = file.contains("feature/b");
+        boolean trimmed = file.contains("hotfix/x");
+        boolean prefix = file.contains("feature/");
+        boolean comment = file.contains("# blocked branches");
+
+        // then
+        assertThat(file.exists(), is(true));
+        assertThat(file.size(), is(4));
+        assertThat(listed, is(true));
+        assertThat(trimmed, is(true));
+        assertThat(prefix, is(false));
+        assertThat(comment, is(false));
+    }
+
+    @Test
+    public void testUnsortedNamesAreSorted() throws IOException {
+        // given
+        Path path = write("blocked", "zeta\nalpha\nörn\nmike\nbeta\n", 1000L);
+        SortedListFile file = new SortedListFile(path, 0L);
+
+        // when
+        boolean first = file.contains("alpha");
+        boolean last = file.contains("örn");
+        boolean middle = file.contains("mike");
+        boolean missing = file.contains("gamma");
+
+        // then
+        assertThat(first, is(true));
+        assertThat(last, is(true));
+        assertThat(middle, is(true));
+        assertThat(missing, is(false));
+    }
+
+    @Test
+    public void testFileIsReloadedWhenModified() throws IOException {
+        // given
+        Path path = write("blocked", "feature/a\n", 1000L);
+        SortedListFile file = new SortedListFile(path, 0L);
+        String version = file.getVersion();
+        assertThat(file.contains("feature/b"), is(false));
+
+        // when
+        Path replacement = write("blocked.new", "feature/a\nfeature/b\n", 2000L);
+        Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // then
+        assertThat(file.contains("feature/b"), is(true));
+        assertThat(file.getVersion(), not(version));
+    }
+
+    @Test
+    public void testFileIsNotCheckedWithinTheInterval() throws IOException {
+        // given
+        Path path = write("blocked", "feature/a\n", 1000L);
+        SortedListFile file = new SortedListFile(path, 60_000L);
+        assertThat(file.contains("feature/a"), is(true));
+
+        // when
+        Path replacement = write("blocked.new", "feature/b\n", 2000L);
+        Files.move(replacement, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // then
+        assertThat(file.contains("feature/a"), is(true));
+        assertThat(file.contains("feature/b"), is(false));
+    }
+
+    @Test
+    public void testMissingFileIsEmpty() {
+        // given
+        SortedListFile file = new SortedListFile(folder.getRoot().toPath().resolve("missing"), 0L);
+
+        // when
+        boolean found = file.contains("feature/a");
+
+        // then
+        assertThat(file.exists(), is(false));
+        assertThat(file.size(), is(0));
+        assertThat(found, is(false));
+    }
+
+    @Test
+    public void testInstancesAreSharedByPath() throws IOException {
+        // given
+        Path path = write("blocked", "feature/a\n", 1000L);
+
+        // when
+        SortedListFile file = SortedListFile.of(path);
+        SortedListFile other = SortedListFile.of(path.getParent().resolve(".").resolve("blocked"));
+
+        // then
+        assertThat(other, sameInstance(file));
+    }
+
+    private Path write(String name, String content, long modified) throws IOException {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(modified));
+        return path;
+    }
+
+}
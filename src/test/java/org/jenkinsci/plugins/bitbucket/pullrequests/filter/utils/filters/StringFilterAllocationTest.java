@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.jenkinsci.plugins.bitbucket.pullrequests.filter.AllocationMeter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Hard per-call allocation ceilings of {@link StringFilter#accepted(String)}, the innermost step of every pull
+ * request evaluation. A {@link java.util.regex.Matcher} costs about 220 bytes, the ceilings leave room for one
+ * matcher and a little bookkeeping per pattern.
+ */
+public class StringFilterAllocationTest {
+
+    private static final int ITERATIONS = 10_000;
+
+    @Before
+    public void setUp() {
+        assumeTrue("Allocated bytes per thread are not measurable on this JVM", AllocationMeter.isSupported());
+    }
+
+    @Test
+    public void testPhrasesAllocation() {
+        // given
+        StringFilter filter = new StringFilter("wip, work in progress, skip ci, ci skip", true);
+
+        // when
+        long bytes = AllocationMeter.bytesPerCall(ITERATIONS, () -> filter.accepted("Add support for custom key bindings"));
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(4 * 384L));
+    }
+
+    @Test
+    public void testPatternAllocation() {
+        // given
+        StringFilter filter = new StringFilter(Pattern.compile("^(feature|bugfix)/.*"));
+
+        // when
+        long bytes = AllocationMeter.bytesPerCall(ITERATIONS, () -> filter.accepted("feature/some-branch-name"));
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(512L));
+    }
+
+    @Test
+    public void testEmptyFilterAllocation() {
+        // given
+        StringFilter filter = new StringFilter((String) null);
+
+        // when
+        long bytes = AllocationMeter.bytesPerCall(ITERATIONS, () -> filter.accepted("feature/some-branch-name"));
+
+        // then
+        assertThat(bytes, lessThanOrEqualTo(16L));
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class StringFilterTest {
+
+    private static final String CATASTROPHIC_PATTERN = "(.*a){12}";
+
+    private static final String CATASTROPHIC_INPUT = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+
+    @After
+    public void tearDown() {
+        Thread.interrupted();
+    }
+
+    @Test(timeout = 10_000)
+    public void testCatastrophicPatternExceedsBudget() {
+        // given
+        StringFilter filter = givenFilter(CATASTROPHIC_PATTERN, 50);
+
+        // when
+        RegexTimeoutException exception = null;
+        try {
+            filter.accepted(CATASTROPHIC_INPUT);
+        } catch (RegexTimeoutException e) {
+            exception = e;
+        }
+
+        // then
+        assertThat(exception, notNullValue());
+        assertThat(exception.isInterrupted(), is(false));
+        assertThat(exception.getPattern(), is(CATASTROPHIC_PATTERN));
+    }
+
+    @Test(timeout = 10_000)
+    public void testInterruptedEvaluation() {
+        // given
+        StringFilter filter = givenFilter(CATASTROPHIC_PATTERN, 60_000);
+        Thread.currentThread().interrupt();
+
+        // when
+        RegexTimeoutException exception = null;
+        try {
+            filter.accepted(CATASTROPHIC_INPUT);
+        } catch (RegexTimeoutException e) {
+            exception = e;
+        }
+
+        // then
+        assertThat(exception, notNullValue());
+        assertThat(exception.isInterrupted(), is(true));
+    }
+
+    @Test
+    public void testPatternWithinBudget() {
+        // given
+        StringFilter filter = givenFilter("^feature/.*", 50);
+
+        // when
+        boolean accepted = filter.accepted("feature/" + CATASTROPHIC_INPUT);
+
+        // then
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testDisabledBudget() {
+        // given
+        StringFilter filter = givenFilter("^feature/.*", 0);
+
+        // when
+        boolean accepted = filter.accepted("bugfix/" + CATASTROPHIC_INPUT);
+
+        // then
+        assertThat(accepted, is(false));
+    }
+
+    @Test
+    public void testBatchMatchesSingleEvaluation() {
+        // given
+        StringFilter filter = new StringFilter("wip, draft", true);
+        List<String> titles = Arrays.asList("WIP: login", "Fix login", null, "[Draft] logout", "Wiper", "wip");
+
+        // when
+        boolean[] accepted = filter.acceptedAll(titles);
+
+        // then
+        for (int i = 0; i < titles.size(); i++) {
+            assertThat(titles.get(i), accepted[i], is(filter.accepted(titles.get(i))));
+        }
+        assertThat(accepted, is(new boolean[]{true, false, false, true, false, true}));
+    }
+
+    @Test
+    public void testBatchWithoutPatterns() {
+        // given
+        StringFilter filter = new StringFilter("", true);
+
+        // when
+        boolean[] accepted = filter.acceptedAll(Arrays.asList("WIP: login", null));
+
+        // then
+        assertThat(accepted, is(new boolean[]{true, true}));
+    }
+
+    private StringFilter givenFilter(String pattern, long timeoutMillis) {
+        return new StringFilter(Collections.singletonList(Pattern.compile(pattern)), timeoutMillis);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License
+ *
+ * Copyright (c) 2026, Krzysztof Kacprzak.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.bitbucket.pullrequests.filter.utils.filters;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TextSearchFilterTest {
+
+    private static final String DESCRIPTION = "## Summary\n\nReworks the parser.\n\n- [x] Tests\n- [ ] Do not build yet\n";
+
+    @Test
+    public void testPhraseOnAnyLine() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("do not build", true, 0);
+
+        // when
+        boolean accepted = filter.accepted(DESCRIPTION);
+
+        // then
+        assertThat(accepted, is(true));
+        assertThat(filter.getMaxScanLength(), is(TextSearchFilter.DEFAULT_MAX_SCAN_LENGTH));
+    }
+
+    @Test
+    public void testPhraseIsMatchedAsWholeWords() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("test", true, 0);
+
+        // when
+        boolean accepted = filter.accepted(DESCRIPTION);
+
+        // then
+        assertThat(accepted, is(false));
+    }
+
+    @Test
+    public void testCaseSensitivePhrase() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("do not build", false, 0);
+
+        // when
+        boolean accepted = filter.accepted(DESCRIPTION);
+
+        // then
+        assertThat(accepted, is(false));
+    }
+
+    @Test
+    public void testPatternIsSearchedAnywhere() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter(Pattern.compile("- \\[ \\] .*build"), 0);
+
+        // when
+        boolean accepted = filter.accepted(DESCRIPTION);
+
+        // then
+        assertThat(accepted, is(true));
+    }
+
+    @Test
+    public void testPhraseBeyondScanLengthIsIgnored() {
+        // given
+        String description = repeat("Lorem ipsum dolor sit amet. ", 1_000) + "skip ci";
+        TextSearchFilter filter = new TextSearchFilter("skip ci", true, 1_000);
+
+        // when
+        boolean accepted = filter.accepted(description);
+
+        // then
+        assertThat(accepted, is(false));
+        assertThat(new TextSearchFilter("skip ci", true, description.length()).accepted(description), is(true));
+    }
+
+    @Test
+    public void testPhraseCutByScanLengthIsIgnored() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("skip", true, "please skip".length());
+
+        // when
+        boolean whole = filter.accepted("please skip");
+        boolean cut = filter.accepted("please skipping");
+
+        // then
+        assertThat(whole, is(true));
+        assertThat(cut, is(false));
+    }
+
+    @Test
+    public void testPhrasesAreSearchedInOnePass() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("wip, do not build", true, 0);
+
+        // when
+        boolean[] accepted = filter.acceptedAll(Arrays.asList(DESCRIPTION, "WIP\nmore to come", "Ready", null));
+
+        // then
+        assertThat(accepted, is(new boolean[]{true, true, false, false}));
+    }
+
+    @Test
+    public void testEmptyFilterAcceptsEverything() {
+        // given
+        TextSearchFilter filter = new TextSearchFilter("", true, 0);
+
+        // when
+        boolean accepted = filter.accepted(null);
+
+        // then
+        assertThat(accepted, is(true));
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+
+}